@@ -0,0 +1,104 @@
+package com.example.conferenceroombooking.benchmark;
+
+import com.example.conferenceroombooking.Application;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomRepository;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.service.AvailabilityMode;
+import com.example.conferenceroombooking.core.service.ConferenceRoomBookingIndex;
+import com.example.conferenceroombooking.core.service.ConferenceRoomSlotGrid;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares answering "which rooms are free from X to Y" through the anti-join query against the booking index and the
+ * slot grid. Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=AvailabilityBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+  private static final int WINDOWS = 64;
+
+  @Param({"4", "100", "1000", "50000"})
+  private int conferenceRooms;
+
+  @Param({"100", "10000"})
+  private int bookingsPerDay;
+
+  private ConfigurableApplicationContext applicationContext;
+  private ConferenceRoomRepository conferenceRoomRepository;
+  private ConferenceRoomBookingRepository conferenceRoomBookingRepository;
+  private ConferenceRoomBookingIndex index;
+  private ConferenceRoomBookingIndex slotGridIndex;
+  private List<ConferenceRoom> rooms;
+  private LocalDateTime[] windowStarts;
+  private int window;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    applicationContext = new SpringApplicationBuilder(Application.class)
+        .web(WebApplicationType.NONE)
+        .properties("spring.flyway.locations=classpath:db/migration", "spring.jpa.show-sql=false", "logging.level.root=warn")
+        .run();
+    conferenceRoomRepository = applicationContext.getBean(ConferenceRoomRepository.class);
+    conferenceRoomBookingRepository = applicationContext.getBean(ConferenceRoomBookingRepository.class);
+
+    rooms = BenchmarkData.persist(conferenceRoomRepository, BenchmarkData.conferenceRooms(conferenceRooms));
+    List<ConferenceRoomBooking> bookings = BenchmarkData.persist(conferenceRoomBookingRepository, BenchmarkData.bookings(rooms, bookingsPerDay));
+
+    index = new ConferenceRoomBookingIndex(new ConferenceRoomSlotGrid(15), AvailabilityMode.INDEX);
+    index.load(bookings);
+    slotGridIndex = new ConferenceRoomBookingIndex(new ConferenceRoomSlotGrid(15), AvailabilityMode.SLOT_GRID);
+    slotGridIndex.load(bookings);
+    windowStarts = BenchmarkData.windowStarts(WINDOWS, 42);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public int antiJoinQuery() {
+    LocalDateTime from = nextWindowStart();
+    return conferenceRoomRepository.findAvailableConferenceRooms(from, from.plusMinutes(30), 1).size();
+  }
+
+  @Benchmark
+  public int bookingIndex() {
+    return countAvailable(index);
+  }
+
+  @Benchmark
+  public int slotGrid() {
+    return countAvailable(slotGridIndex);
+  }
+
+  private int countAvailable(ConferenceRoomBookingIndex conferenceRoomBookingIndex) {
+    LocalDateTime from = nextWindowStart();
+    LocalDateTime to = from.plusMinutes(30);
+    int available = 0;
+    for (ConferenceRoom conferenceRoom : rooms) {
+      if (conferenceRoomBookingIndex.isAvailable(conferenceRoom.getName(), from, to)) {
+        available++;
+      }
+    }
+    return available;
+  }
+
+  private LocalDateTime nextWindowStart() {
+    return windowStarts[window++ & (WINDOWS - 1)];
+  }
+}
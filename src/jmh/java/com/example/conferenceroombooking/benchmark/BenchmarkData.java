@@ -0,0 +1,88 @@
+package com.example.conferenceroombooking.benchmark;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import org.springframework.data.repository.CrudRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+final class BenchmarkData {
+
+  static final LocalDate DAY = LocalDate.parse("2024-08-12");
+
+  private static final long MICROS_PER_DAY = 24L * 60 * 60 * 1_000_000;
+  private static final int PERSIST_CHUNK = 10_000;
+  private static final Set<Integer> MAINTENANCE_HOURS = Set.of(9, 13, 17);
+
+  private BenchmarkData() {
+  }
+
+  static List<ConferenceRoom> conferenceRooms(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> ConferenceRoom.builder().name("Room " + i).maxCapacity(2 + i % 20).build())
+        .toList();
+  }
+
+  static List<ConferenceRoomBooking> bookings(List<ConferenceRoom> conferenceRooms, int bookingsPerDay) {
+    List<ConferenceRoomBooking> bookings = new ArrayList<>(bookingsPerDay);
+    int perConferenceRoom = Math.max(1, bookingsPerDay / conferenceRooms.size());
+    long segmentMicros = MICROS_PER_DAY / perConferenceRoom;
+    for (ConferenceRoom conferenceRoom : conferenceRooms) {
+      for (int i = 0; i < perConferenceRoom && bookings.size() < bookingsPerDay; i++) {
+        LocalDateTime from = DAY.atStartOfDay().plus(i * segmentMicros, ChronoUnit.MICROS);
+        bookings.add(ConferenceRoomBooking.builder()
+            .fromTimestamp(from)
+            .toTimestamp(from.plus(Math.max(1, segmentMicros / 2 - 1), ChronoUnit.MICROS))
+            .numberOfParticipants(2)
+            .conferenceRoomId(conferenceRoom.getId())
+            .conferenceRoom(conferenceRoom.getName())
+            .build());
+      }
+    }
+    return bookings;
+  }
+
+  /**
+   * Saves the entities in chunks, each in its own transaction, so large data sets do not pile up in one persistence
+   * context.
+   */
+  static <T> List<T> persist(CrudRepository<T, Long> repository, List<T> entities) {
+    List<T> persisted = new ArrayList<>(entities.size());
+    for (int i = 0; i < entities.size(); i += PERSIST_CHUNK) {
+      repository.saveAll(entities.subList(i, Math.min(i + PERSIST_CHUNK, entities.size()))).forEach(persisted::add);
+    }
+    return persisted;
+  }
+
+  /**
+   * Random quarter hours of {@link #DAY} whose 14 minute window steers clear of the maintenance windows.
+   */
+  static LocalDateTime[] bookableWindowStarts(int count, long seed) {
+    Random random = new Random(seed);
+    LocalDateTime[] windowStarts = new LocalDateTime[count];
+    for (int i = 0; i < count; ) {
+      LocalTime start = LocalTime.of(0, 0).plusMinutes(15L * random.nextInt(95));
+      if (start.getMinute() != 0 || !MAINTENANCE_HOURS.contains(start.getHour())) {
+        windowStarts[i++] = DAY.atTime(start);
+      }
+    }
+    return windowStarts;
+  }
+
+  static LocalDateTime[] windowStarts(int count, long seed) {
+    Random random = new Random(seed);
+    LocalDateTime[] windowStarts = new LocalDateTime[count];
+    for (int i = 0; i < count; i++) {
+      windowStarts[i] = DAY.atStartOfDay().plusMinutes(random.nextInt(22 * 60));
+    }
+    return windowStarts;
+  }
+}
@@ -0,0 +1,158 @@
+package com.example.conferenceroombooking.benchmark;
+
+import com.example.conferenceroombooking.Application;
+import com.example.conferenceroombooking.adapters.incoming.model.BookingMapper;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomRepository;
+import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import com.example.conferenceroombooking.core.domain.NoConferenceRoomAvailableException;
+import com.example.conferenceroombooking.core.service.BookingService;
+import com.example.conferenceroombooking.core.service.BookingServiceImpl;
+import com.example.conferenceroombooking.core.service.ConferenceRoomReservations;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the public operations of the {@link BookingService} on a fully wired application, with the clock pinned to
+ * the benchmark day. Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=BookingServiceBenchmark}, and
+ * narrow the parameters with e.g. {@code -Djmh.args="BookingServiceBenchmark -p conferenceRooms=100"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+  private static final int WINDOWS = 64;
+
+  @Param({"4", "100", "1000", "10000"})
+  private int conferenceRooms;
+
+  @Param({"10", "1000", "100000", "1000000"})
+  private int bookingsPerDay;
+
+  private ConfigurableApplicationContext applicationContext;
+  private BookingService bookingService;
+  private ConferenceRoomReservations conferenceRoomReservations;
+  private ConferenceRoomBookingRepository conferenceRoomBookingRepository;
+  private ObjectMapper objectMapper;
+  private LocalDateTime[] windowStarts;
+  private boolean[] bookable;
+  private List<ConferenceRoomBookingSummary> page;
+  private int window;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    applicationContext = new SpringApplicationBuilder(Application.class, BenchmarkClockConfiguration.class)
+        .web(WebApplicationType.NONE)
+        .properties("spring.flyway.locations=classpath:db/migration", "spring.jpa.show-sql=false", "logging.level.root=warn")
+        .run();
+    bookingService = applicationContext.getBean(BookingService.class);
+    conferenceRoomReservations = applicationContext.getBean(ConferenceRoomReservations.class);
+    conferenceRoomBookingRepository = applicationContext.getBean(ConferenceRoomBookingRepository.class);
+    objectMapper = applicationContext.getBean(ObjectMapper.class);
+
+    List<ConferenceRoom> rooms = BenchmarkData.persist(applicationContext.getBean(ConferenceRoomRepository.class),
+        BenchmarkData.conferenceRooms(conferenceRooms));
+    BenchmarkData.persist(conferenceRoomBookingRepository, BenchmarkData.bookings(rooms, bookingsPerDay));
+    applicationContext.getBean(BookingServiceImpl.class).loadConferenceRoomsAndBookings();
+
+    windowStarts = BenchmarkData.bookableWindowStarts(WINDOWS, 42);
+    bookable = new boolean[WINDOWS];
+    for (int i = 0; i < WINDOWS; i++) {
+      bookable[i] = book(windowStarts[i]) != null;
+    }
+    page = bookingService.getConferenceRoomBookings(BenchmarkData.DAY.atStartOfDay(), BenchmarkData.DAY.atTime(23, 59), null, 1000);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  /**
+   * Books a room and takes the booking back out of the index and the database straight away, so every invocation sees
+   * the same occupancy. Windows that had a free room at setup must be booked, the others are rejected.
+   */
+  @Benchmark
+  public Object bookConferenceRoom() {
+    int i = window++ & (WINDOWS - 1);
+    ConferenceRoomBooking conferenceRoomBooking = book(windowStarts[i]);
+    if ((conferenceRoomBooking != null) != bookable[i]) {
+      throw new IllegalStateException("Booking the window at %s %s, unlike at setup"
+          .formatted(windowStarts[i], bookable[i] ? "was rejected" : "succeeded"));
+    }
+    return conferenceRoomBooking;
+  }
+
+  @Benchmark
+  public List<ConferenceRoom> getAvailableConferenceRooms() {
+    LocalDateTime from = nextWindowStart();
+    return bookingService.getAvailableConferenceRooms(from, from.plusMinutes(14));
+  }
+
+  @Benchmark
+  public List<ConferenceRoomBookingSummary> getConferenceRoomBookings() {
+    LocalDateTime from = nextWindowStart();
+    return bookingService.getConferenceRoomBookings(from, from.plusMinutes(14));
+  }
+
+  /**
+   * Rejects a booking that overlaps the 13:00 maintenance window, which is decided before any room is looked at.
+   */
+  @Benchmark
+  public Object maintenanceValidation() {
+    try {
+      return bookingService.getAvailableConferenceRooms(BenchmarkData.DAY.atTime(12, 50), BenchmarkData.DAY.atTime(13, 5));
+    } catch (IllegalArgumentException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public byte[] serializeBookings() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(BookingMapper.mapBookings(page, 1000));
+  }
+
+  private ConferenceRoomBooking book(LocalDateTime from) {
+    ConferenceRoomBooking conferenceRoomBooking;
+    try {
+      conferenceRoomBooking = bookingService.bookConferenceRoom(new Booking(from, from.plusMinutes(14), 2));
+    } catch (NoConferenceRoomAvailableException e) {
+      return null;
+    }
+    conferenceRoomReservations.release(conferenceRoomBooking);
+    conferenceRoomBookingRepository.delete(conferenceRoomBooking);
+    return conferenceRoomBooking;
+  }
+
+  private LocalDateTime nextWindowStart() {
+    return windowStarts[window++ & (WINDOWS - 1)];
+  }
+
+  static class BenchmarkClockConfiguration {
+
+    @Bean
+    @Primary
+    Clock benchmarkClock() {
+      return Clock.fixed(BenchmarkData.DAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+  }
+}
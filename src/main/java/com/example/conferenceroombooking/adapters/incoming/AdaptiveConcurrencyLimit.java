@@ -0,0 +1,119 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits how many requests run at once. Requests over the limit wait in a bounded queue for at most
+ * {@code queueTimeout} and are turned away once the queue is full or their wait is over. The limit follows the
+ * observed latency: it grows by one for every request completing within the target latency while the limit is in full
+ * use, and shrinks by a tenth for a request taking longer. It shrinks at most once per latency of that slow request,
+ * so requests admitted under the old limit do not shrink it again.
+ */
+public class AdaptiveConcurrencyLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final int queueSize;
+  private final long queueTimeoutNanos;
+  private final long targetLatencyNanos;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+  private int limit;
+  private int inFlight;
+  private int waiting;
+  private long lastDecrease;
+
+  public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int queueSize, Duration queueTimeout,
+                                  Duration targetLatency) {
+    if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit || queueSize < 0) {
+      throw new IllegalArgumentException("A concurrency limit needs 1 <= min-limit <= initial-limit <= max-limit and a queue size that is not negative");
+    }
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.queueSize = queueSize;
+    this.queueTimeoutNanos = queueTimeout.toNanos();
+    this.targetLatencyNanos = targetLatency.toNanos();
+    this.lastDecrease = System.nanoTime() - Long.MAX_VALUE / 2;
+  }
+
+  /**
+   * Admits the request right away if it is within the limit, else queues it. Returns false if the request is
+   * turned away, in which case it must not be {@link #release released}.
+   */
+  public boolean tryAcquire() {
+    lock.lock();
+    try {
+      if (inFlight < limit && waiting == 0) {
+        inFlight++;
+        return true;
+      }
+      if (waiting >= queueSize) {
+        return false;
+      }
+      waiting++;
+      try {
+        long remaining = queueTimeoutNanos;
+        while (inFlight >= limit) {
+          if (remaining <= 0) {
+            return false;
+          }
+          remaining = released.awaitNanos(remaining);
+        }
+        inFlight++;
+        return true;
+      } finally {
+        waiting--;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Releases an admitted request that took the given time, adapting the limit to it.
+   */
+  public void release(long latencyNanos) {
+    lock.lock();
+    try {
+      boolean saturated = inFlight >= limit;
+      inFlight--;
+      if (latencyNanos > targetLatencyNanos) {
+        long now = System.nanoTime();
+        if (now - lastDecrease >= latencyNanos) {
+          limit = Math.max(minLimit, limit - Math.max(1, limit / 10));
+          lastDecrease = now;
+        }
+      } else if (saturated && limit < maxLimit) {
+        limit++;
+        released.signal();
+      }
+      released.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getLimit() {
+    lock.lock();
+    try {
+      return limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Admits requests to the booking API through separate {@link AdaptiveConcurrencyLimit}s for writes and for reads, so
+ * a burst of bookings cannot starve availability lookups or the other way round. Requests over capacity are rejected
+ * right away with a {@link ServiceOverloadedException} instead of all callers slowing down together.
+ */
+@Component
+public class AdmissionControl implements HandlerInterceptor {
+
+  private static final String ADMISSION = AdmissionControl.class.getName() + ".admission";
+
+  private final AdaptiveConcurrencyLimit writes;
+  private final AdaptiveConcurrencyLimit reads;
+  private final Counter rejectedWrites;
+  private final Counter rejectedReads;
+  private final Duration retryAfter;
+
+  public AdmissionControl(AdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+    this.writes = limit(admissionProperties.writes());
+    this.reads = limit(admissionProperties.reads());
+    this.rejectedWrites = register(meterRegistry, "writes", writes);
+    this.rejectedReads = register(meterRegistry, "reads", reads);
+    this.retryAfter = admissionProperties.retryAfter();
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    boolean write = !HttpMethod.GET.matches(request.getMethod());
+    AdaptiveConcurrencyLimit limit = write ? writes : reads;
+    if (!limit.tryAcquire()) {
+      (write ? rejectedWrites : rejectedReads).increment();
+      throw new ServiceOverloadedException("Too many requests, try again later", retryAfter);
+    }
+    request.setAttribute(ADMISSION, new Admission(limit, System.nanoTime()));
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (request.getAttribute(ADMISSION) instanceof Admission admission) {
+      request.removeAttribute(ADMISSION);
+      admission.limit().release(System.nanoTime() - admission.startNanos());
+    }
+  }
+
+  private static AdaptiveConcurrencyLimit limit(AdmissionProperties.Limit limit) {
+    return new AdaptiveConcurrencyLimit(limit.initialLimit(), limit.minLimit(), limit.maxLimit(), limit.queueSize(),
+        limit.queueTimeout(), limit.targetLatency());
+  }
+
+  private static Counter register(MeterRegistry meterRegistry, String requests, AdaptiveConcurrencyLimit limit) {
+    Gauge.builder("booking.admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+        .description("Requests admitted to run at once")
+        .tag("requests", requests)
+        .register(meterRegistry);
+    Gauge.builder("booking.admission.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+        .description("Admitted requests running")
+        .tag("requests", requests)
+        .register(meterRegistry);
+    return Counter.builder("booking.admission.rejected")
+        .description("Requests rejected as over capacity")
+        .tag("requests", requests)
+        .register(meterRegistry);
+  }
+
+  private record Admission(AdaptiveConcurrencyLimit limit, long startNanos) {
+  }
+}
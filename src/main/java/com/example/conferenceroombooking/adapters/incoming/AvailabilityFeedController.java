@@ -0,0 +1,65 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.adapters.incoming.model.BookingMapper;
+import com.example.conferenceroombooking.config.AvailabilityProperties;
+import com.example.conferenceroombooking.core.domain.AvailabilityChange;
+import com.example.conferenceroombooking.core.service.AvailabilityChangeFeed;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Pushes availability changes as Server-Sent Events. Every subscriber is served by a virtual thread of its own that
+ * drains its buffer of the feed, so writing to a slow client only ever blocks that thread. Subscribers beyond the limit
+ * of the feed are turned away with a 503.
+ */
+@RestController
+@RequestMapping("/api/conference-room/availability")
+@AllArgsConstructor
+public class AvailabilityFeedController {
+
+  private final AvailabilityChangeFeed availabilityChangeFeed;
+  private final AvailabilityProperties availabilityProperties;
+
+  @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamAvailabilityChanges() {
+    // A subscriber that went away is found by the next heartbeat at the latest, which frees its place.
+    AvailabilityChangeFeed.Subscription subscription = availabilityChangeFeed.subscribe()
+        .orElseThrow(() -> new ServiceOverloadedException("Too many subscribers of the availability feed, try again later",
+            availabilityProperties.feed().heartbeatInterval()));
+    SseEmitter emitter = new SseEmitter(0L);
+    emitter.onCompletion(subscription::close);
+    emitter.onTimeout(subscription::close);
+    emitter.onError(e -> subscription.close());
+    Thread.ofVirtual().name("availability-feed").start(() -> deliver(emitter, subscription));
+    return emitter;
+  }
+
+  private static void deliver(SseEmitter emitter, AvailabilityChangeFeed.Subscription subscription) {
+    try {
+      while (!subscription.isClosed()) {
+        AvailabilityChange availabilityChange = subscription.poll();
+        if (availabilityChange == null) {
+          // Keeps proxies from closing an idle stream and finds clients that went away.
+          emitter.send(SseEmitter.event().comment("heartbeat"));
+          continue;
+        }
+        emitter.send(SseEmitter.event()
+            .id(Long.toString(availabilityChange.sequence()))
+            .name(BookingMapper.mapEventName(availabilityChange))
+            .data(BookingMapper.map(availabilityChange), MediaType.APPLICATION_JSON));
+      }
+    } catch (IOException | IllegalStateException e) {
+      subscription.close();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      subscription.close();
+      emitter.complete();
+    }
+  }
+}
@@ -1,41 +1,183 @@
 package com.example.conferenceroombooking.adapters.incoming;
 
 import com.example.conferenceroombooking.adapters.incoming.model.*;
+import com.example.conferenceroombooking.core.domain.AvailableSlot;
+import com.example.conferenceroombooking.core.domain.BatchBookingResult;
 import com.example.conferenceroombooking.core.domain.ConferenceRoom;
 import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import com.example.conferenceroombooking.core.domain.DayAvailability;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
 import com.example.conferenceroombooking.core.service.BookingService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/conference-room")
 @AllArgsConstructor
 public class BookingController {
 
+  private static final String NDJSON = "application/x-ndjson";
+  private static final int DEFAULT_PAGE_SIZE = 100;
+  private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
   private final BookingService bookingService;
+  private final ObjectMapper objectMapper;
+  private final ResponseBodyCache responseBodyCache;
+  private final IdempotentRequests idempotentRequests;
+  private final Clock clock;
 
   @PostMapping("/book")
-  public ResponseEntity<BookingResponse> bookConferenceRoom(@RequestBody BookingRequest bookingRequest) {
+  public ResponseEntity<BookingResponse> bookConferenceRoom(@RequestBody BookingRequest bookingRequest,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return book(bookingRequest);
+    }
+    return idempotentRequests.execute(idempotencyKey, bookingRequest, () -> book(bookingRequest));
+  }
+
+  private ResponseEntity<BookingResponse> book(BookingRequest bookingRequest) {
     ConferenceRoomBooking conferenceRoomBooking = bookingService.bookConferenceRoom(BookingMapper.map(bookingRequest));
     return ResponseEntity.status(HttpStatus.CREATED).body(BookingMapper.map(conferenceRoomBooking));
   }
 
+  @PostMapping("/book/batch")
+  public ResponseEntity<BatchBookingResponse> bookConferenceRooms(@RequestBody BatchBookingRequest batchBookingRequest) {
+    List<BatchBookingResult> batchBookingResults = bookingService.bookConferenceRooms(BookingMapper.map(batchBookingRequest));
+    return ResponseEntity.status(HttpStatus.OK).body(BookingMapper.mapBatchBookingResults(batchBookingResults));
+  }
+
+  @PostMapping("/book/recurring")
+  public ResponseEntity<RecurringBookingResponse> bookRecurringConferenceRoom(@RequestBody RecurringBookingRequest recurringBookingRequest) {
+    RecurringConferenceRoomBooking recurringConferenceRoomBooking =
+        bookingService.bookRecurringConferenceRoom(BookingMapper.map(recurringBookingRequest));
+    return ResponseEntity.status(HttpStatus.CREATED).body(BookingMapper.map(recurringConferenceRoomBooking));
+  }
+
   @GetMapping("/availability")
-  public ResponseEntity<AvailabilityResponse> getConferenceRoomAvailability(
-      @RequestParam LocalDateTime from, @RequestParam LocalDateTime to) {
-    List<ConferenceRoom> availableConferenceRooms = bookingService.getAvailableConferenceRooms(from, to);
-    return ResponseEntity.status(HttpStatus.OK).body(BookingMapper.map(availableConferenceRooms));
+  public ResponseEntity<byte[]> getConferenceRoomAvailability(
+      @RequestParam LocalDateTime from, @RequestParam LocalDateTime to, WebRequest webRequest) {
+    // Availability may only be asked for windows that have not started yet.
+    return versioned(webRequest, "availability:%s:%s".formatted(from, to), from, () -> {
+      List<ConferenceRoom> availableConferenceRooms = bookingService.getAvailableConferenceRooms(from, to);
+      return BookingMapper.map(availableConferenceRooms);
+    });
+  }
+
+  @GetMapping("/availability/day")
+  public ResponseEntity<DayAvailabilityResponse> getConferenceRoomDayAvailability(@RequestParam(required = false) LocalDate date) {
+    DayAvailability dayAvailability = bookingService.getDayAvailability(date);
+    return ResponseEntity.status(HttpStatus.OK).body(BookingMapper.map(dayAvailability));
+  }
+
+  @GetMapping("/next-available")
+  public ResponseEntity<NextAvailableResponse> getNextAvailableSlots(
+      @RequestParam Duration duration, @RequestParam int numberOfParticipants,
+      @RequestParam(required = false) LocalDateTime from, @RequestParam(defaultValue = "1") int limit) {
+    List<AvailableSlot> availableSlots = bookingService.getNextAvailableSlots(from, duration, numberOfParticipants, limit);
+    return ResponseEntity.status(HttpStatus.OK).body(BookingMapper.mapAvailableSlots(availableSlots));
   }
 
   @GetMapping("/bookings")
-  public ResponseEntity<BookingsResponse> getConferenceRoomBookings(
+  public ResponseEntity<byte[]> getConferenceRoomBookings(
+      @RequestParam LocalDateTime from, @RequestParam LocalDateTime to,
+      @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor, WebRequest webRequest) {
+    return versioned(webRequest, "bookings:%s:%s:%s:%s".formatted(from, to, limit, cursor), null, () -> {
+      if (limit == null && cursor == null) {
+        List<ConferenceRoomBookingSummary> conferenceRoomBookings = bookingService.getConferenceRoomBookings(from, to);
+        return BookingMapper.mapBookings(conferenceRoomBookings);
+      }
+      int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+      List<ConferenceRoomBookingSummary> conferenceRoomBookings =
+          bookingService.getConferenceRoomBookings(from, to, BookingMapper.mapCursor(cursor), pageSize);
+      return BookingMapper.mapBookings(conferenceRoomBookings, pageSize);
+    });
+  }
+
+  @GetMapping("/bookings/recurring")
+  public ResponseEntity<byte[]> getRecurringBookingOccurrences(@RequestParam LocalDateTime from, @RequestParam LocalDateTime to,
+      WebRequest webRequest) {
+    return versioned(webRequest, "recurring-bookings:%s:%s".formatted(from, to), null, () -> {
+      List<ConferenceRoomBookingSummary> occurrences = bookingService.getRecurringBookingOccurrences(from, to);
+      return BookingMapper.mapBookings(occurrences);
+    });
+  }
+
+  /**
+   * Answers with the body computed for the same query at the current booking state version, tagged with that version.
+   * A request whose {@code If-None-Match} matches the version gets a 304 before the body is looked up or computed,
+   * unless the query stopped being valid. Without a version every response is computed afresh and not tagged.
+   */
+  private ResponseEntity<byte[]> versioned(WebRequest webRequest, String key, LocalDateTime validUntil,
+                                           Supplier<Object> response) {
+    OptionalLong version = bookingService.getBookingStateVersion();
+    if (version.isEmpty()) {
+      return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(serialize(response.get()));
+    }
+    String eTag = "\"" + version.getAsLong() + "\"";
+    LocalDateTime now = LocalDateTime.now(clock);
+    if ((validUntil == null || !now.isAfter(validUntil)) && webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+    }
+    byte[] body = responseBodyCache.get(key, version.getAsLong(), now);
+    if (body == null) {
+      body = serialize(response.get());
+      responseBodyCache.put(key, version.getAsLong(), body, validUntil);
+    }
+    return ResponseEntity.status(HttpStatus.OK)
+        .eTag(eTag)
+        .cacheControl(CacheControl.noCache())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(body);
+  }
+
+  private byte[] serialize(Object response) {
+    try {
+      return objectMapper.writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @GetMapping(value = "/bookings/stream", produces = NDJSON)
+  public ResponseEntity<StreamingResponseBody> streamConferenceRoomBookings(
       @RequestParam LocalDateTime from, @RequestParam LocalDateTime to) {
-    List<ConferenceRoomBooking> conferenceRoomBookings = bookingService.getConferenceRoomBookings(from, to);
-    return ResponseEntity.status(HttpStatus.OK).body(BookingMapper.mapBookings(conferenceRoomBookings));
+    ObjectWriter objectWriter = objectMapper.writerFor(BookingResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    StreamingResponseBody body = outputStream -> {
+      try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+          .setRootValueSeparator(null)) {
+        bookingService.streamConferenceRoomBookings(from, to, conferenceRoomBooking -> {
+          try {
+            objectWriter.writeValue(jsonGenerator, BookingMapper.map(conferenceRoomBooking));
+            jsonGenerator.writeRaw('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+    };
+    return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.parseMediaType(NDJSON)).body(body);
   }
 }
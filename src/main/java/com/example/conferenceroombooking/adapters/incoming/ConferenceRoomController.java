@@ -0,0 +1,33 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.adapters.incoming.model.ConferenceRoomImportResponse;
+import com.example.conferenceroombooking.adapters.incoming.model.ConferenceRoomMapper;
+import com.example.conferenceroombooking.adapters.incoming.model.ConferenceRoomsRequest;
+import com.example.conferenceroombooking.core.service.BookingService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/conference-rooms")
+@AllArgsConstructor
+public class ConferenceRoomController {
+
+  private static final String TEXT_CSV = "text/csv";
+
+  private final BookingService bookingService;
+
+  @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ConferenceRoomImportResponse> importConferenceRooms(@RequestBody ConferenceRoomsRequest conferenceRoomsRequest) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(ConferenceRoomMapper.map(bookingService.importConferenceRooms(ConferenceRoomMapper.map(conferenceRoomsRequest))));
+  }
+
+  @PostMapping(consumes = TEXT_CSV)
+  public ResponseEntity<ConferenceRoomImportResponse> importConferenceRoomsCsv(@RequestBody String csv) {
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(ConferenceRoomMapper.map(bookingService.importConferenceRooms(ConferenceRoomMapper.mapCsv(csv))));
+  }
+}
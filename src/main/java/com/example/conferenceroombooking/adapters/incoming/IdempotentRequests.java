@@ -0,0 +1,93 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.config.IdempotencyProperties;
+import com.example.conferenceroombooking.core.domain.NoConferenceRoomAvailableException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Outcomes of requests by their {@code Idempotency-Key}, so a retried request is answered with the outcome of the
+ * first one instead of being executed again. Requests arriving while the first is still running wait for its outcome.
+ * Only results and {@link NoConferenceRoomAvailableException}s are kept, for the configured time to live. Any other
+ * failure is handed to the requests waiting at that moment and then forgotten, so a later retry is executed afresh.
+ * Once {@code maxKeys} is reached, expired keys are dropped first and then the oldest finished ones.
+ */
+@Component
+public class IdempotentRequests {
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Duration ttl;
+  private final int maxKeys;
+  private final Clock clock;
+
+  public IdempotentRequests(IdempotencyProperties idempotencyProperties, Clock clock) {
+    this.ttl = idempotencyProperties.ttl();
+    this.maxKeys = idempotencyProperties.maxKeys();
+    this.clock = clock;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String key, Object request, Supplier<T> execution) {
+    Instant now = clock.instant();
+    Entry created = new Entry(request, new CompletableFuture<>(), now.plus(ttl));
+    Entry entry = entries.compute(key, (k, existing) -> existing == null || existing.isExpired(now) ? created : existing);
+    if (entry != created) {
+      if (!entry.request().equals(request)) {
+        throw new IllegalArgumentException("The Idempotency-Key %s was already used for a different request".formatted(key));
+      }
+      return (T) await(entry.outcome());
+    }
+    if (entries.size() > maxKeys) {
+      evict(now);
+    }
+    try {
+      T result = execution.get();
+      created.outcome().complete(result);
+      return result;
+    } catch (NoConferenceRoomAvailableException e) {
+      created.outcome().completeExceptionally(e);
+      throw e;
+    } catch (RuntimeException e) {
+      entries.remove(key, created);
+      created.outcome().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private void evict(Instant now) {
+    entries.values().removeIf(entry -> entry.isExpired(now));
+    int excess = entries.size() - maxKeys;
+    if (excess > 0) {
+      entries.entrySet().stream()
+          .filter(entry -> entry.getValue().outcome().isDone())
+          .sorted(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+          .limit(Math.max(excess, maxKeys / 4))
+          .toList()
+          .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> outcome) {
+    try {
+      return outcome.join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
+
+  private record Entry(Object request, CompletableFuture<Object> outcome, Instant expiresAt) {
+
+    boolean isExpired(Instant now) {
+      return outcome.isDone() && now.isAfter(expiresAt);
+    }
+  }
+}
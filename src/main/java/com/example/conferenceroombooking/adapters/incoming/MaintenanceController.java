@@ -0,0 +1,29 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.adapters.incoming.model.MaintenanceMapper;
+import com.example.conferenceroombooking.adapters.incoming.model.MaintenanceWindowsRequest;
+import com.example.conferenceroombooking.adapters.incoming.model.MaintenanceWindowsResponse;
+import com.example.conferenceroombooking.core.service.MaintenanceWindows;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/maintenance-windows")
+@AllArgsConstructor
+public class MaintenanceController {
+
+  private final MaintenanceWindows maintenanceWindows;
+
+  @GetMapping
+  public ResponseEntity<MaintenanceWindowsResponse> getMaintenanceWindows() {
+    return ResponseEntity.status(HttpStatus.OK).body(MaintenanceMapper.map(maintenanceWindows.getMaintenanceWindows()));
+  }
+
+  @PutMapping
+  public ResponseEntity<MaintenanceWindowsResponse> replaceMaintenanceWindows(@RequestBody MaintenanceWindowsRequest maintenanceWindowsRequest) {
+    maintenanceWindows.replace(MaintenanceMapper.map(maintenanceWindowsRequest));
+    return ResponseEntity.status(HttpStatus.OK).body(MaintenanceMapper.map(maintenanceWindows.getMaintenanceWindows()));
+  }
+}
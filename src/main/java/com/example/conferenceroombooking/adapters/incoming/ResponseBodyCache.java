@@ -0,0 +1,41 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized response bodies by query, each valid for the booking state version it was computed at and, for queries
+ * that stop being valid as time passes, until a given timestamp. Entries of older versions are dropped once the cache
+ * is full.
+ */
+@Component
+public class ResponseBodyCache {
+
+  private static final int MAX_ENTRIES = 4096;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  public byte[] get(String key, long version, LocalDateTime now) {
+    Entry entry = entries.get(key);
+    if (entry == null || entry.version() != version || (entry.validUntil() != null && now.isAfter(entry.validUntil()))) {
+      return null;
+    }
+    return entry.body();
+  }
+
+  public void put(String key, long version, byte[] body, LocalDateTime validUntil) {
+    if (entries.size() >= MAX_ENTRIES) {
+      entries.values().removeIf(entry -> entry.version() < version);
+      if (entries.size() >= MAX_ENTRIES) {
+        entries.clear();
+      }
+    }
+    entries.put(key, new Entry(version, body, validUntil));
+  }
+
+  private record Entry(long version, byte[] body, LocalDateTime validUntil) {
+  }
+}
@@ -1,18 +1,30 @@
 package com.example.conferenceroombooking.adapters.incoming;
 
 import com.example.conferenceroombooking.core.domain.NoConferenceRoomAvailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+@Slf4j
 @org.springframework.web.bind.annotation.RestControllerAdvice
 public class RestControllerAdvice {
 
+  private static final String BOOKING_CONFLICT = "The conference room is already booked for this time";
+
   @ExceptionHandler(NoConferenceRoomAvailableException.class)
   public ResponseEntity<String> handleNoConferenceRoomAvailableException(NoConferenceRoomAvailableException e) {
     return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
   }
 
+  @ExceptionHandler(DataIntegrityViolationException.class)
+  public ResponseEntity<String> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+    log.warn("Booking rejected by the database: {}", e.getMostSpecificCause().getMessage());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(BOOKING_CONFLICT);
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
@@ -23,6 +35,13 @@ public class RestControllerAdvice {
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
   }
 
+  @ExceptionHandler(ServiceOverloadedException.class)
+  public ResponseEntity<String> handleServiceOverloadedException(ServiceOverloadedException e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+        .body(e.getMessage());
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<String> handleException(Exception e) {
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
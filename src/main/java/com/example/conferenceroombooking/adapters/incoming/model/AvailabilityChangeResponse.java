@@ -0,0 +1,12 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import com.example.conferenceroombooking.core.domain.Recurrence;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityChangeResponse(String conferenceRoom, LocalDateTime from, LocalDateTime to, Recurrence recurrence,
+                                         LocalDate until) {
+}
@@ -0,0 +1,9 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record AvailableSlotResponse(LocalDateTime from, LocalDateTime to, String conferenceRoom) {
+}
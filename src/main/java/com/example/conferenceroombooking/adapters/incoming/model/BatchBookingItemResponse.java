@@ -0,0 +1,6 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import com.example.conferenceroombooking.core.domain.BatchBookingStatus;
+
+public record BatchBookingItemResponse(BatchBookingStatus status, BookingResponse booking, String message) {
+}
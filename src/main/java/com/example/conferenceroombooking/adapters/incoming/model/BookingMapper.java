@@ -1,13 +1,28 @@
 package com.example.conferenceroombooking.adapters.incoming.model;
 
+import com.example.conferenceroombooking.core.domain.AvailabilityChange;
+import com.example.conferenceroombooking.core.domain.AvailableSlot;
+import com.example.conferenceroombooking.core.domain.BatchBookingResult;
 import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.BookingCursor;
 import com.example.conferenceroombooking.core.domain.ConferenceRoom;
 import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import com.example.conferenceroombooking.core.domain.DayAvailability;
+import com.example.conferenceroombooking.core.domain.RecurringBooking;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
 
 public final class BookingMapper {
 
+  private static final String CURSOR_SEPARATOR = ",";
+
   public static Booking map(BookingRequest bookingRequest) {
     return Booking.builder()
         .from(bookingRequest.from())
@@ -16,12 +31,63 @@ public final class BookingMapper {
         .build();
   }
 
-  public static BookingsResponse mapBookings(List<ConferenceRoomBooking> conferenceRoomBookings) {
+  public static RecurringBooking map(RecurringBookingRequest recurringBookingRequest) {
+    return RecurringBooking.builder()
+        .from(recurringBookingRequest.from())
+        .to(recurringBookingRequest.to())
+        .recurrence(recurringBookingRequest.recurrence())
+        .until(recurringBookingRequest.until())
+        .numberOfParticipants(recurringBookingRequest.numberOfParticipants())
+        .build();
+  }
+
+  public static List<Booking> map(BatchBookingRequest batchBookingRequest) {
+    return batchBookingRequest.bookings().stream()
+        .map(BookingMapper::map)
+        .toList();
+  }
+
+  public static BatchBookingResponse mapBatchBookingResults(List<BatchBookingResult> batchBookingResults) {
+    return new BatchBookingResponse(batchBookingResults.stream()
+        .map(batchBookingResult -> new BatchBookingItemResponse(
+            batchBookingResult.status(),
+            batchBookingResult.conferenceRoomBooking() == null ? null : map(batchBookingResult.conferenceRoomBooking()),
+            batchBookingResult.message()))
+        .toList());
+  }
+
+  public static BookingsResponse mapBookings(List<ConferenceRoomBookingSummary> conferenceRoomBookings) {
     return new BookingsResponse(conferenceRoomBookings.stream()
         .map(BookingMapper::map)
         .toList());
   }
 
+  public static BookingsResponse mapBookings(List<ConferenceRoomBookingSummary> conferenceRoomBookings, int limit) {
+    String nextCursor = conferenceRoomBookings.size() < limit
+        ? null
+        : mapCursor(BookingCursor.of(conferenceRoomBookings.get(conferenceRoomBookings.size() - 1)));
+    return new BookingsResponse(conferenceRoomBookings.stream()
+        .map(BookingMapper::map)
+        .toList(), nextCursor);
+  }
+
+  public static String mapCursor(BookingCursor bookingCursor) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((bookingCursor.fromTimestamp() + CURSOR_SEPARATOR + bookingCursor.id()).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static BookingCursor mapCursor(String cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(CURSOR_SEPARATOR);
+      return new BookingCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+    } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+  }
+
   public static BookingResponse map(ConferenceRoomBooking conferenceRoomBooking) {
     return BookingResponse.builder()
         .from(conferenceRoomBooking.getFromTimestamp())
@@ -30,8 +96,63 @@ public final class BookingMapper {
         .build();
   }
 
+  public static BookingResponse map(ConferenceRoomBookingSummary conferenceRoomBooking) {
+    return BookingResponse.builder()
+        .from(conferenceRoomBooking.fromTimestamp())
+        .to(conferenceRoomBooking.toTimestamp())
+        .conferenceRoom(conferenceRoomBooking.conferenceRoom())
+        .build();
+  }
+
+  public static RecurringBookingResponse map(RecurringConferenceRoomBooking recurringConferenceRoomBooking) {
+    return RecurringBookingResponse.builder()
+        .from(recurringConferenceRoomBooking.getFirstDay().atTime(recurringConferenceRoomBooking.getStartTime()))
+        .to(recurringConferenceRoomBooking.getFirstDay().atTime(recurringConferenceRoomBooking.getEndTime()))
+        .recurrence(recurringConferenceRoomBooking.getRecurrence())
+        .until(recurringConferenceRoomBooking.getLastDay())
+        .conferenceRoom(recurringConferenceRoomBooking.getConferenceRoom())
+        .build();
+  }
+
   public static AvailabilityResponse map(List<ConferenceRoom> availableConferenceRooms) {
     return new AvailabilityResponse(
         availableConferenceRooms.stream().map(ConferenceRoom::getName).toList());
   }
+
+  public static DayAvailabilityResponse map(DayAvailability dayAvailability) {
+    return new DayAvailabilityResponse(dayAvailability.day(), dayAvailability.slotMinutes(), dayAvailability.slotsPerDay(),
+        dayAvailability.conferenceRooms().stream()
+            .map(conferenceRoomDay -> new ConferenceRoomDayResponse(
+                conferenceRoomDay.conferenceRoom().getName(),
+                mapSlots(conferenceRoomDay.bookedSlots(), dayAvailability.slotsPerDay()),
+                mapSlots(conferenceRoomDay.maintenanceSlots(), dayAvailability.slotsPerDay())))
+            .toList());
+  }
+
+  public static String mapSlots(long[] slots, int slotsPerDay) {
+    byte[] bytes = new byte[(slotsPerDay + 7) >>> 3];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (slots[i >>> 3] >>> ((i & 7) << 3));
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  public static String mapEventName(AvailabilityChange availabilityChange) {
+    return availabilityChange.type().name().toLowerCase(Locale.ROOT);
+  }
+
+  public static AvailabilityChangeResponse map(AvailabilityChange availabilityChange) {
+    return new AvailabilityChangeResponse(availabilityChange.conferenceRoom(), availabilityChange.from(), availabilityChange.to(),
+        availabilityChange.recurrence(), availabilityChange.until());
+  }
+
+  public static NextAvailableResponse mapAvailableSlots(List<AvailableSlot> availableSlots) {
+    return new NextAvailableResponse(availableSlots.stream()
+        .map(availableSlot -> AvailableSlotResponse.builder()
+            .from(availableSlot.from())
+            .to(availableSlot.to())
+            .conferenceRoom(availableSlot.conferenceRoom().getName())
+            .build())
+        .toList());
+  }
 }
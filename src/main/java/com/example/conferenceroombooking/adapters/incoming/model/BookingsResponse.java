@@ -1,6 +1,12 @@
 package com.example.conferenceroombooking.adapters.incoming.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
-public record BookingsResponse(List<BookingResponse> bookings) {
+public record BookingsResponse(List<BookingResponse> bookings, @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
+
+  public BookingsResponse(List<BookingResponse> bookings) {
+    this(bookings, null);
+  }
 }
@@ -0,0 +1,4 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+public record ConferenceRoomDayResponse(String conferenceRoom, String booked, String maintenance) {
+}
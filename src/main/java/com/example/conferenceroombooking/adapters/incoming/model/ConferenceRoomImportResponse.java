@@ -0,0 +1,4 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+public record ConferenceRoomImportResponse(int imported, int skipped) {
+}
@@ -0,0 +1,57 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomImportResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ConferenceRoomMapper {
+
+  private static final String CSV_HEADER = "name,maxCapacity";
+
+  public static List<ConferenceRoom> map(ConferenceRoomsRequest conferenceRoomsRequest) {
+    if (conferenceRoomsRequest.conferenceRooms() == null) {
+      throw new IllegalArgumentException("The conference rooms must be provided");
+    }
+    return conferenceRoomsRequest.conferenceRooms().stream()
+        .map(conferenceRoomRequest -> conferenceRoom(conferenceRoomRequest.name(), conferenceRoomRequest.maxCapacity()))
+        .toList();
+  }
+
+  /**
+   * Reads lines of {@code name,maxCapacity}, optionally after that header. The capacity follows the last comma, so
+   * names may contain commas without quoting.
+   */
+  public static List<ConferenceRoom> mapCsv(String csv) {
+    List<ConferenceRoom> conferenceRooms = new ArrayList<>();
+    List<String> lines = csv.lines().toList();
+    for (int i = 0; i < lines.size(); i++) {
+      String line = lines.get(i).strip();
+      if (line.isEmpty() || (i == 0 && line.equalsIgnoreCase(CSV_HEADER))) {
+        continue;
+      }
+      int separator = line.lastIndexOf(',');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Line %d is not of the form %s".formatted(i + 1, CSV_HEADER));
+      }
+      try {
+        conferenceRooms.add(conferenceRoom(line.substring(0, separator).strip(), Integer.parseInt(line.substring(separator + 1).strip())));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Line %d has no valid maxCapacity".formatted(i + 1));
+      }
+    }
+    return conferenceRooms;
+  }
+
+  public static ConferenceRoomImportResponse map(ConferenceRoomImportResult conferenceRoomImportResult) {
+    return new ConferenceRoomImportResponse(conferenceRoomImportResult.imported(), conferenceRoomImportResult.skipped());
+  }
+
+  private static ConferenceRoom conferenceRoom(String name, int maxCapacity) {
+    return ConferenceRoom.builder()
+        .name(name)
+        .maxCapacity(maxCapacity)
+        .build();
+  }
+}
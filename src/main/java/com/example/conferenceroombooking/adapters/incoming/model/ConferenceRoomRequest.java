@@ -0,0 +1,7 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import lombok.Builder;
+
+@Builder
+public record ConferenceRoomRequest(String name, int maxCapacity) {
+}
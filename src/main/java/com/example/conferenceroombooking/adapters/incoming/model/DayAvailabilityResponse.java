@@ -0,0 +1,11 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The slots of a day per conference room, each bitmap encoded as unpadded URL-safe Base64 of its bytes with slot
+ * {@code i} in bit {@code i % 8} of byte {@code i / 8}.
+ */
+public record DayAvailabilityResponse(LocalDate date, int slotMinutes, int slots, List<ConferenceRoomDayResponse> conferenceRooms) {
+}
@@ -0,0 +1,37 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import com.example.conferenceroombooking.core.domain.MaintenanceWindow;
+
+import java.util.List;
+
+public final class MaintenanceMapper {
+
+  public static List<MaintenanceWindow> map(MaintenanceWindowsRequest maintenanceWindowsRequest) {
+    if (maintenanceWindowsRequest.maintenanceWindows() == null) {
+      throw new IllegalArgumentException("The maintenance windows must be provided, use an empty list to remove all of them");
+    }
+    return maintenanceWindowsRequest.maintenanceWindows().stream()
+        .map(MaintenanceMapper::map)
+        .toList();
+  }
+
+  public static MaintenanceWindow map(MaintenanceWindowRequest maintenanceWindowRequest) {
+    return MaintenanceWindow.builder()
+        .start(maintenanceWindowRequest.start())
+        .end(maintenanceWindowRequest.end())
+        .days(maintenanceWindowRequest.days())
+        .conferenceRooms(maintenanceWindowRequest.conferenceRooms())
+        .build();
+  }
+
+  public static MaintenanceWindowsResponse map(List<MaintenanceWindow> maintenanceWindows) {
+    return new MaintenanceWindowsResponse(maintenanceWindows.stream()
+        .map(maintenanceWindow -> MaintenanceWindowResponse.builder()
+            .start(maintenanceWindow.start())
+            .end(maintenanceWindow.end())
+            .days(maintenanceWindow.days())
+            .conferenceRooms(maintenanceWindow.conferenceRooms())
+            .build())
+        .toList());
+  }
+}
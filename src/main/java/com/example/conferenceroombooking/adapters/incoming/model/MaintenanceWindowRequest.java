@@ -0,0 +1,11 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import lombok.Builder;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Builder
+public record MaintenanceWindowRequest(LocalTime start, LocalTime end, Set<DayOfWeek> days, Set<String> conferenceRooms) {
+}
@@ -0,0 +1,6 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import java.util.List;
+
+public record MaintenanceWindowsResponse(List<MaintenanceWindowResponse> maintenanceWindows) {
+}
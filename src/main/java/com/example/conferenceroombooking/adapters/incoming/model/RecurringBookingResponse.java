@@ -0,0 +1,12 @@
+package com.example.conferenceroombooking.adapters.incoming.model;
+
+import com.example.conferenceroombooking.core.domain.Recurrence;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Builder
+public record RecurringBookingResponse(LocalDateTime from, LocalDateTime to, Recurrence recurrence, LocalDate until,
+                                       String conferenceRoom) {
+}
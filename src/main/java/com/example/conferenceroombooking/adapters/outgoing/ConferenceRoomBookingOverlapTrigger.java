@@ -0,0 +1,55 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import org.h2.tools.TriggerAdapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Rejects a booking that overlaps another booking of the same conference room, both being closed intervals. The room
+ * row is locked first, so concurrent transactions booking the same room are checked one after the other.
+ */
+public class ConferenceRoomBookingOverlapTrigger extends TriggerAdapter {
+
+  static final String INTEGRITY_CONSTRAINT_VIOLATION = "23000";
+
+  private static final String LOCK_CONFERENCE_ROOM = "SELECT id FROM conference_rooms WHERE id = ? FOR UPDATE";
+  private static final String FIND_OVERLAPPING = """
+      SELECT id FROM conference_room_bookings
+      WHERE conference_room_id = ? AND from_timestamp >= ? AND from_timestamp <= ? AND to_timestamp >= ? AND id <> ?
+      FETCH FIRST ROW ONLY""";
+
+  @Override
+  public void fire(Connection connection, ResultSet oldRow, ResultSet newRow) throws SQLException {
+    long id = newRow.getLong("ID");
+    long conferenceRoomId = newRow.getLong("CONFERENCE_ROOM_ID");
+    LocalDateTime from = toLocalDateTime(newRow.getObject("FROM_TIMESTAMP"));
+    LocalDateTime to = toLocalDateTime(newRow.getObject("TO_TIMESTAMP"));
+
+    try (PreparedStatement lock = connection.prepareStatement(LOCK_CONFERENCE_ROOM)) {
+      lock.setLong(1, conferenceRoomId);
+      lock.executeQuery().close();
+    }
+    try (PreparedStatement overlapping = connection.prepareStatement(FIND_OVERLAPPING)) {
+      overlapping.setLong(1, conferenceRoomId);
+      overlapping.setObject(2, from.toLocalDate().atStartOfDay());
+      overlapping.setObject(3, to);
+      overlapping.setObject(4, from);
+      overlapping.setLong(5, id);
+      try (ResultSet resultSet = overlapping.executeQuery()) {
+        if (resultSet.next()) {
+          throw new SQLException("Booking %d from %s to %s overlaps booking %d of conference room %d"
+              .formatted(id, from, to, resultSet.getLong(1), conferenceRoomId), INTEGRITY_CONSTRAINT_VIOLATION);
+        }
+      }
+    }
+  }
+
+  private static LocalDateTime toLocalDateTime(Object value) {
+    return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+  }
+}
@@ -1,13 +1,42 @@
 package com.example.conferenceroombooking.adapters.outgoing;
 
 import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
-public interface ConferenceRoomBookingRepository extends CrudRepository<ConferenceRoomBooking, Long> {
+/**
+ * The queries listing bookings select only the columns of a {@link ConferenceRoomBookingSummary}, so the bookings are
+ * never managed: there is no persistence context entry, loaded state snapshot or dirty check per row, and no detached
+ * entity a later save would merge.
+ */
+public interface ConferenceRoomBookingRepository extends CrudRepository<ConferenceRoomBooking, Long>, ConferenceRoomBookingStreamRepository {
+
+  String SELECT_BOOKINGS = "SELECT new com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary("
+      + "crb.id, crb.fromTimestamp, crb.toTimestamp, crb.conferenceRoom)"
+      + " FROM ConferenceRoomBooking crb";
+
+  @Transactional(readOnly = true)
   @Query("SELECT crb FROM ConferenceRoomBooking crb WHERE crb.fromTimestamp <= :toRequest AND crb.toTimestamp >= :fromRequest")
-  List<ConferenceRoomBooking> findConferenceRoomConflicts(LocalDateTime fromRequest, LocalDateTime toRequest);
+  List<ConferenceRoomBooking> findConferenceRoomBookings(LocalDateTime fromRequest, LocalDateTime toRequest);
+
+  @Transactional(readOnly = true)
+  @Query(SELECT_BOOKINGS + " WHERE crb.fromTimestamp <= :toRequest AND crb.toTimestamp >= :fromRequest")
+  List<ConferenceRoomBookingSummary> findConferenceRoomConflicts(LocalDateTime fromRequest, LocalDateTime toRequest);
+
+  @Transactional(readOnly = true)
+  @Query(SELECT_BOOKINGS + " WHERE crb.fromTimestamp <= :toRequest AND crb.toTimestamp >= :fromRequest ORDER BY crb.fromTimestamp, crb.id")
+  List<ConferenceRoomBookingSummary> findConferenceRoomConflicts(LocalDateTime fromRequest, LocalDateTime toRequest, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  @Query(SELECT_BOOKINGS + " WHERE crb.fromTimestamp <= :toRequest AND crb.toTimestamp >= :fromRequest"
+      + " AND (crb.fromTimestamp > :afterFromTimestamp OR (crb.fromTimestamp = :afterFromTimestamp AND crb.id > :afterId))"
+      + " ORDER BY crb.fromTimestamp, crb.id")
+  List<ConferenceRoomBookingSummary> findConferenceRoomConflictsAfter(LocalDateTime fromRequest, LocalDateTime toRequest,
+                                                                      LocalDateTime afterFromTimestamp, Long afterId, Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface ConferenceRoomBookingStreamRepository {
+  void streamConferenceRoomConflicts(LocalDateTime fromRequest, LocalDateTime toRequest, Consumer<ConferenceRoomBookingSummary> consumer);
+}
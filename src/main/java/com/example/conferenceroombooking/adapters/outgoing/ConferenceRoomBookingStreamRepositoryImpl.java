@@ -0,0 +1,34 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class ConferenceRoomBookingStreamRepositoryImpl implements ConferenceRoomBookingStreamRepository {
+
+  private static final int FETCH_SIZE = 500;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @Transactional(readOnly = true)
+  public void streamConferenceRoomConflicts(LocalDateTime fromRequest, LocalDateTime toRequest, Consumer<ConferenceRoomBookingSummary> consumer) {
+    try (Stream<ConferenceRoomBookingSummary> conferenceRoomBookings = entityManager.createQuery(
+            ConferenceRoomBookingRepository.SELECT_BOOKINGS
+                + " WHERE crb.fromTimestamp <= :toRequest AND crb.toTimestamp >= :fromRequest ORDER BY crb.fromTimestamp, crb.id",
+            ConferenceRoomBookingSummary.class)
+        .setParameter("fromRequest", fromRequest)
+        .setParameter("toRequest", toRequest)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+        .getResultStream()) {
+      conferenceRoomBookings.forEach(consumer);
+    }
+  }
+}
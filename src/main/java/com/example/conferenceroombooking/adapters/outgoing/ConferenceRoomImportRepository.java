@@ -0,0 +1,9 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+
+import java.util.List;
+
+public interface ConferenceRoomImportRepository {
+  List<ConferenceRoom> insertNewConferenceRooms(List<ConferenceRoom> conferenceRooms);
+}
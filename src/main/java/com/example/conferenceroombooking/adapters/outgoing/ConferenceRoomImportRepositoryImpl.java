@@ -0,0 +1,53 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inserts the rooms whose names are not taken yet, all or none in one transaction. Taken names are looked up a bounded
+ * chunk at a time, and the persistence context is flushed as one JDBC batch and cleared every {@code BATCH_SIZE}
+ * rooms, so neither the queries nor the memory grow with the size of the import.
+ */
+public class ConferenceRoomImportRepositoryImpl implements ConferenceRoomImportRepository {
+
+  private static final int NAME_LOOKUP_SIZE = 1000;
+  // Matches hibernate.jdbc.batch_size and the increment of conference_rooms_seq.
+  private static final int BATCH_SIZE = 50;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @Transactional
+  public List<ConferenceRoom> insertNewConferenceRooms(List<ConferenceRoom> conferenceRooms) {
+    List<ConferenceRoom> inserted = new ArrayList<>();
+    for (int start = 0; start < conferenceRooms.size(); start += NAME_LOOKUP_SIZE) {
+      List<ConferenceRoom> chunk = conferenceRooms.subList(start, Math.min(start + NAME_LOOKUP_SIZE, conferenceRooms.size()));
+      Set<String> taken = new HashSet<>(entityManager.createQuery(
+              "SELECT cr.name FROM ConferenceRoom cr WHERE cr.name IN :names", String.class)
+          .setParameter("names", chunk.stream().map(ConferenceRoom::getName).toList())
+          .getResultList());
+      for (ConferenceRoom conferenceRoom : chunk) {
+        if (taken.contains(conferenceRoom.getName())) {
+          continue;
+        }
+        entityManager.persist(conferenceRoom);
+        inserted.add(conferenceRoom);
+        if (inserted.size() % BATCH_SIZE == 0) {
+          entityManager.flush();
+          entityManager.clear();
+        }
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+    return inserted;
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row locks on conference rooms in the shared database, held until the surrounding transaction ends, so instances of
+ * the application booking the same room take turns. Must be called within a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConferenceRoomLocks {
+
+  private static final String TRY_LOCK_CONFERENCE_ROOM = "SELECT id FROM conference_rooms WHERE id = ? FOR UPDATE SKIP LOCKED";
+  private static final String LOCK_CONFERENCE_ROOM = "SELECT id FROM conference_rooms WHERE id = ? FOR UPDATE";
+  private static final String FIND_OVERLAPPING = """
+      SELECT id FROM conference_room_bookings
+      WHERE conference_room_id = ? AND from_timestamp >= ? AND from_timestamp <= ? AND to_timestamp >= ?
+      FETCH FIRST ROW ONLY""";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Locks the room unless another transaction holds its lock, in which case it returns right away.
+   */
+  public boolean tryLock(long conferenceRoomId) {
+    return !jdbcTemplate.queryForList(TRY_LOCK_CONFERENCE_ROOM, Long.class, conferenceRoomId).isEmpty();
+  }
+
+  public void lock(long conferenceRoomId) {
+    jdbcTemplate.queryForList(LOCK_CONFERENCE_ROOM, Long.class, conferenceRoomId);
+  }
+
+  /**
+   * Whether a stored booking of the room overlaps the window. Bookings lie within one day, which bounds the lookup.
+   */
+  public boolean isBooked(long conferenceRoomId, LocalDateTime from, LocalDateTime to) {
+    return !jdbcTemplate.queryForList(FIND_OVERLAPPING, Long.class,
+        conferenceRoomId, from.toLocalDate().atStartOfDay(), to, from).isEmpty();
+  }
+}
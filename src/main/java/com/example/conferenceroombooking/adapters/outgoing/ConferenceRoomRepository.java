@@ -1,12 +1,31 @@
 package com.example.conferenceroombooking.adapters.outgoing;
 
 import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface ConferenceRoomRepository extends CrudRepository<ConferenceRoom, Long> {
-  List<ConferenceRoom> findAllByNameNotIn(List<String> names);
+public interface ConferenceRoomRepository extends CrudRepository<ConferenceRoom, Long>, ConferenceRoomImportRepository {
+
+  /**
+   * The rooms seating at least {@code minCapacity} without a stored booking overlapping the window, smallest first.
+   * Booked rooms are left out by an anti-join on the room and window index rather than a list of their names, so the
+   * query does not grow with the number of conflicts. Bookings lie within one day, which bounds the index range
+   * scanned per room to the day of the window.
+   */
+  default List<ConferenceRoom> findAvailableConferenceRooms(LocalDateTime from, LocalDateTime to, int minCapacity) {
+    return findAvailableConferenceRooms(from.toLocalDate().atStartOfDay(), from, to, minCapacity);
+  }
+
+  @Transactional(readOnly = true)
+  @Query("SELECT cr FROM ConferenceRoom cr WHERE cr.maxCapacity >= :minCapacity AND NOT EXISTS ("
+      + "SELECT crb.id FROM ConferenceRoomBooking crb WHERE crb.conferenceRoomId = cr.id"
+      + " AND crb.fromTimestamp >= :startOfDay AND crb.fromTimestamp <= :to AND crb.toTimestamp >= :from)"
+      + " ORDER BY cr.maxCapacity, cr.id")
+  List<ConferenceRoom> findAvailableConferenceRooms(LocalDateTime startOfDay, LocalDateTime from, LocalDateTime to, int minCapacity);
 }
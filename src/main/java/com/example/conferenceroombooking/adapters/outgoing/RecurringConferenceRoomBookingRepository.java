@@ -0,0 +1,21 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RecurringConferenceRoomBookingRepository extends CrudRepository<RecurringConferenceRoomBooking, Long> {
+  List<RecurringConferenceRoomBooking> findAllByLastDayGreaterThanEqual(LocalDate day);
+
+  @Transactional(readOnly = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  @Query("SELECT rcrb FROM RecurringConferenceRoomBooking rcrb WHERE rcrb.firstDay <= :lastDay AND rcrb.lastDay >= :firstDay")
+  List<RecurringConferenceRoomBooking> findRecurringConferenceRoomBookings(LocalDate firstDay, LocalDate lastDay);
+}
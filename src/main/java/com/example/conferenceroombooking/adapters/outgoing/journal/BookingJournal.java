@@ -0,0 +1,270 @@
+package com.example.conferenceroombooking.adapters.outgoing.journal;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of booking changes, split into numbered segments. Every record holds the entries of one append and
+ * is framed by its length and a CRC, so a record torn by a crash ends the replay of its segment, and a batch is
+ * replayed whole or not at all. Appending only writes to the segment; callers then wait in
+ * {@link #awaitDurable(long)}, where a single fsync covers every record appended before it, so concurrent writers share
+ * the cost of syncing.
+ */
+final class BookingJournal implements Closeable {
+
+  enum Operation {
+    SAVE, DELETE, DELETE_ALL
+  }
+
+  record Entry(Operation operation, long id, ConferenceRoomBooking conferenceRoomBooking) {
+  }
+
+  private static final String SEGMENT_PREFIX = "journal-";
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final int FRAME_BYTES = 8;
+  private static final int ENTRY_BYTES = 9;
+  private static final int SAVE_BYTES = 38;
+  private static final int MAX_RECORD_BYTES = 1 << 24;
+
+  private final Path directory;
+  private final ReentrantLock appendLock = new ReentrantLock();
+  private final ReentrantLock syncLock = new ReentrantLock();
+  private volatile FileChannel segment;
+  private long sequence;
+  private volatile long appended;
+  private volatile long durable;
+
+  private BookingJournal(Path directory, long sequence) throws IOException {
+    this.directory = directory;
+    this.sequence = sequence;
+    this.segment = openSegment(directory, sequence);
+  }
+
+  /**
+   * Starts a new segment after the existing ones, which are left to {@link #replay(Path, long, Consumer)}, and after
+   * {@code minimumSequence}.
+   */
+  static BookingJournal open(Path directory, long minimumSequence) throws IOException {
+    long lastSequence = segmentSequences(directory).stream().mapToLong(Long::longValue).max().orElse(0);
+    return new BookingJournal(directory, Math.max(lastSequence, minimumSequence) + 1);
+  }
+
+  /**
+   * Replays the records of every segment numbered {@code fromSequence} or later, in order.
+   */
+  static void replay(Path directory, long fromSequence, Consumer<Entry> consumer) throws IOException {
+    for (long sequence : segmentSequences(directory)) {
+      if (sequence >= fromSequence) {
+        replaySegment(segmentPath(directory, sequence), consumer);
+      }
+    }
+  }
+
+  /**
+   * Writes the record and returns the position that has to be durable for it to survive a crash.
+   */
+  long append(Operation operation, long id, ConferenceRoomBooking conferenceRoomBooking) {
+    return append(List.of(new Entry(operation, id, conferenceRoomBooking)));
+  }
+
+  /**
+   * Writes the entries as a single record, see {@link #append(Operation, long, ConferenceRoomBooking)}.
+   */
+  long append(List<Entry> entries) {
+    ByteBuffer buffer = encode(entries);
+    appendLock.lock();
+    try {
+      int length = buffer.remaining();
+      while (buffer.hasRemaining()) {
+        segment.write(buffer);
+      }
+      appended += length;
+      return appended;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  void awaitDurable(long position) {
+    if (durable >= position) {
+      return;
+    }
+    syncLock.lock();
+    try {
+      if (durable >= position) {
+        return;
+      }
+      long syncing = appended;
+      segment.force(false);
+      durable = syncing;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  /**
+   * Syncs and closes the current segment and continues in a new one, whose number is returned. A snapshot taken after
+   * the rotation together with the new segment and its successors recovers the full state.
+   */
+  long rotate() throws IOException {
+    appendLock.lock();
+    syncLock.lock();
+    try {
+      segment.force(false);
+      segment.close();
+      durable = appended;
+      sequence++;
+      segment = openSegment(directory, sequence);
+      return sequence;
+    } finally {
+      syncLock.unlock();
+      appendLock.unlock();
+    }
+  }
+
+  void deleteSegmentsBefore(long sequence) throws IOException {
+    for (long segmentSequence : segmentSequences(directory)) {
+      if (segmentSequence < sequence) {
+        Files.deleteIfExists(segmentPath(directory, segmentSequence));
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    appendLock.lock();
+    syncLock.lock();
+    try {
+      segment.force(false);
+      segment.close();
+      durable = appended;
+    } finally {
+      syncLock.unlock();
+      appendLock.unlock();
+    }
+  }
+
+  private static FileChannel openSegment(Path directory, long sequence) throws IOException {
+    return FileChannel.open(segmentPath(directory, sequence),
+        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  private static Path segmentPath(Path directory, long sequence) {
+    return directory.resolve("%s%020d%s".formatted(SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+  }
+
+  private static List<Long> segmentSequences(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString())
+          .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+          .map(name -> Long.valueOf(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+          .sorted()
+          .toList();
+    }
+  }
+
+  private static void replaySegment(Path path, Consumer<Entry> consumer) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+    CRC32C crc = new CRC32C();
+    while (buffer.remaining() >= FRAME_BYTES) {
+      int length = buffer.getInt();
+      int checksum = buffer.getInt();
+      if (length <= 0 || length > MAX_RECORD_BYTES || length > buffer.remaining()) {
+        return;
+      }
+      ByteBuffer payload = buffer.slice(buffer.position(), length);
+      crc.reset();
+      crc.update(payload.duplicate());
+      if ((int) crc.getValue() != checksum) {
+        return;
+      }
+      for (int count = payload.getInt(); count > 0; count--) {
+        consumer.accept(decode(payload));
+      }
+      buffer.position(buffer.position() + length);
+    }
+  }
+
+  private static ByteBuffer encode(List<Entry> entries) {
+    byte[][] conferenceRooms = new byte[entries.size()][];
+    int length = Integer.BYTES;
+    for (int i = 0; i < entries.size(); i++) {
+      Entry entry = entries.get(i);
+      conferenceRooms[i] = entry.operation() == Operation.SAVE
+          ? entry.conferenceRoomBooking().getConferenceRoom().getBytes(StandardCharsets.UTF_8)
+          : new byte[0];
+      length += ENTRY_BYTES + (entry.operation() == Operation.SAVE ? SAVE_BYTES + conferenceRooms[i].length : 0);
+    }
+    if (length > MAX_RECORD_BYTES) {
+      throw new IllegalArgumentException("%d changes do not fit into a journal record".formatted(entries.size()));
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(FRAME_BYTES + length);
+    buffer.position(FRAME_BYTES).putInt(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      Entry entry = entries.get(i);
+      buffer.put((byte) entry.operation().ordinal()).putLong(entry.id());
+      if (entry.operation() == Operation.SAVE) {
+        ConferenceRoomBooking conferenceRoomBooking = entry.conferenceRoomBooking();
+        putTimestamp(buffer, conferenceRoomBooking.getFromTimestamp());
+        putTimestamp(buffer, conferenceRoomBooking.getToTimestamp());
+        buffer.putInt(conferenceRoomBooking.getNumberOfParticipants());
+        buffer.putLong(conferenceRoomBooking.getConferenceRoomId() == null ? Long.MIN_VALUE : conferenceRoomBooking.getConferenceRoomId());
+        buffer.putShort((short) conferenceRooms[i].length).put(conferenceRooms[i]);
+      }
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(buffer.array(), FRAME_BYTES, length);
+    buffer.putInt(0, length).putInt(4, (int) crc.getValue());
+    return buffer.flip();
+  }
+
+  private static Entry decode(ByteBuffer payload) {
+    Operation operation = Operation.values()[payload.get()];
+    long id = payload.getLong();
+    if (operation != Operation.SAVE) {
+      return new Entry(operation, id, null);
+    }
+    LocalDateTime from = getTimestamp(payload);
+    LocalDateTime to = getTimestamp(payload);
+    int numberOfParticipants = payload.getInt();
+    long conferenceRoomId = payload.getLong();
+    byte[] conferenceRoom = new byte[payload.getShort()];
+    payload.get(conferenceRoom);
+    return new Entry(operation, id, ConferenceRoomBooking.builder()
+        .id(id)
+        .fromTimestamp(from)
+        .toTimestamp(to)
+        .numberOfParticipants(numberOfParticipants)
+        .conferenceRoomId(conferenceRoomId == Long.MIN_VALUE ? null : conferenceRoomId)
+        .conferenceRoom(new String(conferenceRoom, StandardCharsets.UTF_8))
+        .build());
+  }
+
+  static void putTimestamp(ByteBuffer buffer, LocalDateTime timestamp) {
+    buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC)).putInt(timestamp.getNano());
+  }
+
+  static LocalDateTime getTimestamp(ByteBuffer buffer) {
+    return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+  }
+}
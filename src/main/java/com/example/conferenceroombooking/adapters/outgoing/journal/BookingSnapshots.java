@@ -0,0 +1,162 @@
+package com.example.conferenceroombooking.adapters.outgoing.journal;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Compact binary snapshots of all bookings. A snapshot holds a table of the conference room names followed by fixed
+ * size booking records, so it can be memory-mapped and decoded in chunks without parsing. Snapshot {@code n} holds the
+ * state up to journal segment {@code n}; it is written to a temporary file and renamed once synced, so a snapshot file
+ * is always complete.
+ */
+final class BookingSnapshots {
+
+  private static final int MAGIC = 0x424B534E;
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 32;
+  private static final int RECORD_BYTES = 48;
+  private static final int RECORDS_PER_CHUNK = Integer.MAX_VALUE / RECORD_BYTES;
+  private static final String SNAPSHOT_PREFIX = "snapshot-";
+  private static final String SNAPSHOT_SUFFIX = ".bin";
+
+  private BookingSnapshots() {
+  }
+
+  static OptionalLong latest(Path directory) throws IOException {
+    return snapshotSequences(directory).stream().mapToLong(Long::longValue).max();
+  }
+
+  /**
+   * Writes the bookings together with the highest id handed out so far, which may belong to a deleted booking.
+   */
+  static void write(Path directory, long sequence, long maxId, Collection<ConferenceRoomBooking> conferenceRoomBookings) throws IOException {
+    Map<String, Integer> conferenceRoomIndexes = new HashMap<>();
+    List<byte[]> conferenceRooms = new ArrayList<>();
+    for (ConferenceRoomBooking conferenceRoomBooking : conferenceRoomBookings) {
+      conferenceRoomIndexes.computeIfAbsent(conferenceRoomBooking.getConferenceRoom(), conferenceRoom -> {
+        conferenceRooms.add(conferenceRoom.getBytes(StandardCharsets.UTF_8));
+        return conferenceRooms.size() - 1;
+      });
+    }
+
+    Path temporary = directory.resolve(snapshotPath(directory, sequence).getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(conferenceRooms.size());
+      output.writeInt(conferenceRooms.stream().mapToInt(conferenceRoom -> 2 + conferenceRoom.length).sum());
+      output.writeLong(conferenceRoomBookings.size());
+      output.writeLong(maxId);
+      for (byte[] conferenceRoom : conferenceRooms) {
+        output.writeShort(conferenceRoom.length);
+        output.write(conferenceRoom);
+      }
+      ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+      for (ConferenceRoomBooking conferenceRoomBooking : conferenceRoomBookings) {
+        record.clear();
+        record.putLong(conferenceRoomBooking.getId());
+        BookingJournal.putTimestamp(record, conferenceRoomBooking.getFromTimestamp());
+        BookingJournal.putTimestamp(record, conferenceRoomBooking.getToTimestamp());
+        record.putInt(conferenceRoomBooking.getNumberOfParticipants());
+        record.putLong(conferenceRoomBooking.getConferenceRoomId() == null ? Long.MIN_VALUE : conferenceRoomBooking.getConferenceRoomId());
+        record.putInt(conferenceRoomIndexes.get(conferenceRoomBooking.getConferenceRoom()));
+        output.write(record.array());
+      }
+      output.flush();
+      channel.force(true);
+    }
+    Files.move(temporary, snapshotPath(directory, sequence), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Passes every booking of the snapshot to the consumer and returns the highest id handed out when it was taken.
+   */
+  static long read(Path directory, long sequence, Consumer<ConferenceRoomBooking> consumer) throws IOException {
+    try (FileChannel channel = FileChannel.open(snapshotPath(directory, sequence), StandardOpenOption.READ)) {
+      MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+      if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+        throw new IOException("Not a booking snapshot: " + snapshotPath(directory, sequence));
+      }
+      int conferenceRoomCount = header.getInt();
+      int conferenceRoomBytes = header.getInt();
+      long bookingCount = header.getLong();
+      long maxId = header.getLong();
+      if (channel.size() != HEADER_BYTES + conferenceRoomBytes + bookingCount * RECORD_BYTES) {
+        throw new IOException("Truncated booking snapshot: " + snapshotPath(directory, sequence));
+      }
+
+      MappedByteBuffer conferenceRoomTable = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, conferenceRoomBytes);
+      String[] conferenceRooms = new String[conferenceRoomCount];
+      for (int i = 0; i < conferenceRoomCount; i++) {
+        byte[] conferenceRoom = new byte[conferenceRoomTable.getShort()];
+        conferenceRoomTable.get(conferenceRoom);
+        conferenceRooms[i] = new String(conferenceRoom, StandardCharsets.UTF_8);
+      }
+
+      long position = HEADER_BYTES + conferenceRoomBytes;
+      for (long remaining = bookingCount; remaining > 0; ) {
+        int records = (int) Math.min(remaining, RECORDS_PER_CHUNK);
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) records * RECORD_BYTES);
+        for (int i = 0; i < records; i++) {
+          long id = chunk.getLong();
+          ConferenceRoomBooking.ConferenceRoomBookingBuilder conferenceRoomBooking = ConferenceRoomBooking.builder()
+              .id(id)
+              .fromTimestamp(BookingJournal.getTimestamp(chunk))
+              .toTimestamp(BookingJournal.getTimestamp(chunk))
+              .numberOfParticipants(chunk.getInt());
+          long conferenceRoomId = chunk.getLong();
+          consumer.accept(conferenceRoomBooking
+              .conferenceRoomId(conferenceRoomId == Long.MIN_VALUE ? null : conferenceRoomId)
+              .conferenceRoom(conferenceRooms[chunk.getInt()])
+              .build());
+        }
+        position += (long) records * RECORD_BYTES;
+        remaining -= records;
+      }
+      return maxId;
+    }
+  }
+
+  static void deleteBefore(Path directory, long sequence) throws IOException {
+    for (long snapshotSequence : snapshotSequences(directory)) {
+      if (snapshotSequence < sequence) {
+        Files.deleteIfExists(snapshotPath(directory, snapshotSequence));
+      }
+    }
+  }
+
+  private static Path snapshotPath(Path directory, long sequence) {
+    return directory.resolve("%s%020d%s".formatted(SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+  }
+
+  private static List<Long> snapshotSequences(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString())
+          .filter(name -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+          .map(name -> Long.valueOf(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length())))
+          .sorted()
+          .toList();
+    }
+  }
+}
@@ -0,0 +1,414 @@
+package com.example.conferenceroombooking.adapters.outgoing.journal;
+
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Keeps all bookings in memory and makes every change durable by appending it to a local {@link BookingJournal}. Once
+ * enough changes have been appended a {@link BookingSnapshots snapshot} is written in the background, and on startup
+ * the latest snapshot is loaded and only the journal written since is replayed. Applies the same rules as the database
+ * schema: a booking lies within one day and does not overlap another booking of its room.
+ */
+@Slf4j
+public class JournalConferenceRoomBookingRepository implements ConferenceRoomBookingRepository, AutoCloseable {
+
+  private final Path directory;
+  private final int snapshotInterval;
+  private final NavigableMap<WindowKey, ConferenceRoomBooking> bookingsByWindow = new ConcurrentSkipListMap<>();
+  private final Map<Long, ConferenceRoomBooking> bookingsById = new ConcurrentHashMap<>();
+  private final Map<String, NavigableMap<LocalDateTime, ConferenceRoomBooking>> bookingsByConferenceRoom = new ConcurrentHashMap<>();
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final AtomicLong ids = new AtomicLong();
+  private final AtomicLong appendedSinceSnapshot = new AtomicLong();
+  private final AtomicBoolean snapshotting = new AtomicBoolean();
+  private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform().daemon().name("booking-snapshot").factory());
+  private final BookingJournal journal;
+
+  public JournalConferenceRoomBookingRepository(Path directory, int snapshotInterval) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.snapshotInterval = snapshotInterval;
+    long started = System.nanoTime();
+    OptionalLong snapshot = BookingSnapshots.latest(directory);
+    long fromSequence = snapshot.orElse(0);
+    if (snapshot.isPresent()) {
+      ids.accumulateAndGet(BookingSnapshots.read(directory, fromSequence, this::put), Math::max);
+    }
+    BookingJournal.replay(directory, fromSequence, this::replay);
+    this.journal = BookingJournal.open(directory, fromSequence);
+    log.info("Recovered {} bookings from {} in {} ms", bookingsById.size(), directory, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+  }
+
+  @Override
+  public <S extends ConferenceRoomBooking> S save(S conferenceRoomBooking) {
+    saveAll(List.of(conferenceRoomBooking));
+    return conferenceRoomBooking;
+  }
+
+  /**
+   * Saves all bookings or none, like a single transaction would. The bookings are applied while they are validated, so
+   * they are checked against each other as well, and taken back if they cannot be journaled or synced.
+   */
+  @Override
+  public <S extends ConferenceRoomBooking> Iterable<S> saveAll(Iterable<S> conferenceRoomBookings) {
+    List<S> saving = StreamSupport.stream(conferenceRoomBookings.spliterator(), false).toList();
+    if (saving.isEmpty()) {
+      return saving;
+    }
+    List<ConferenceRoomBooking> saved = new ArrayList<>();
+    List<ConferenceRoomBooking> replaced = new ArrayList<>();
+    long position;
+    writeLock.lock();
+    try {
+      for (S conferenceRoomBooking : saving) {
+        validate(conferenceRoomBooking);
+        if (conferenceRoomBooking.getId() == null) {
+          conferenceRoomBooking.setId(ids.incrementAndGet());
+        }
+        replaced.add(put(conferenceRoomBooking));
+        saved.add(conferenceRoomBooking);
+      }
+      position = journal.append(saving.stream()
+          .map(conferenceRoomBooking -> new BookingJournal.Entry(BookingJournal.Operation.SAVE, conferenceRoomBooking.getId(), conferenceRoomBooking))
+          .toList());
+    } catch (RuntimeException e) {
+      undoSave(saved, replaced);
+      throw appendFailure(e);
+    } finally {
+      writeLock.unlock();
+    }
+    awaitDurable(position, saving.size(), () -> undoSave(saved, replaced));
+    return saving;
+  }
+
+  @Override
+  public Optional<ConferenceRoomBooking> findById(Long id) {
+    return Optional.ofNullable(bookingsById.get(id));
+  }
+
+  @Override
+  public boolean existsById(Long id) {
+    return bookingsById.containsKey(id);
+  }
+
+  @Override
+  public Iterable<ConferenceRoomBooking> findAll() {
+    return List.copyOf(bookingsByWindow.values());
+  }
+
+  @Override
+  public Iterable<ConferenceRoomBooking> findAllById(Iterable<Long> ids) {
+    return StreamSupport.stream(ids.spliterator(), false)
+        .map(bookingsById::get)
+        .filter(conferenceRoomBooking -> conferenceRoomBooking != null)
+        .toList();
+  }
+
+  @Override
+  public long count() {
+    return bookingsById.size();
+  }
+
+  @Override
+  public void deleteById(Long id) {
+    deleteAllById(List.of(id));
+  }
+
+  @Override
+  public void delete(ConferenceRoomBooking conferenceRoomBooking) {
+    deleteAllById(List.of(conferenceRoomBooking.getId()));
+  }
+
+  @Override
+  public void deleteAllById(Iterable<? extends Long> ids) {
+    List<ConferenceRoomBooking> removed = new ArrayList<>();
+    long position;
+    writeLock.lock();
+    try {
+      for (Long id : ids) {
+        ConferenceRoomBooking conferenceRoomBooking = remove(id);
+        if (conferenceRoomBooking != null) {
+          removed.add(conferenceRoomBooking);
+        }
+      }
+      if (removed.isEmpty()) {
+        return;
+      }
+      position = journal.append(removed.stream()
+          .map(conferenceRoomBooking -> new BookingJournal.Entry(BookingJournal.Operation.DELETE, conferenceRoomBooking.getId(), null))
+          .toList());
+    } catch (RuntimeException e) {
+      undoDelete(removed);
+      throw appendFailure(e);
+    } finally {
+      writeLock.unlock();
+    }
+    awaitDurable(position, removed.size(), () -> undoDelete(removed));
+  }
+
+  @Override
+  public void deleteAll(Iterable<? extends ConferenceRoomBooking> conferenceRoomBookings) {
+    deleteAllById(StreamSupport.stream(conferenceRoomBookings.spliterator(), false).map(ConferenceRoomBooking::getId).toList());
+  }
+
+  @Override
+  public void deleteAll() {
+    List<ConferenceRoomBooking> removed = new ArrayList<>();
+    long position;
+    writeLock.lock();
+    try {
+      removed.addAll(bookingsById.values());
+      clear();
+      position = journal.append(BookingJournal.Operation.DELETE_ALL, 0, null);
+    } catch (RuntimeException e) {
+      undoDelete(removed);
+      throw appendFailure(e);
+    } finally {
+      writeLock.unlock();
+    }
+    awaitDurable(position, 1, () -> undoDelete(removed));
+  }
+
+  @Override
+  public List<ConferenceRoomBooking> findConferenceRoomBookings(LocalDateTime fromRequest, LocalDateTime toRequest) {
+    return conflicts(fromRequest, toRequest, null).toList();
+  }
+
+  @Override
+  public List<ConferenceRoomBookingSummary> findConferenceRoomConflicts(LocalDateTime fromRequest, LocalDateTime toRequest) {
+    return conflicts(fromRequest, toRequest, null).map(ConferenceRoomBookingSummary::of).toList();
+  }
+
+  @Override
+  public List<ConferenceRoomBookingSummary> findConferenceRoomConflicts(LocalDateTime fromRequest, LocalDateTime toRequest,
+                                                                        Pageable pageable) {
+    return page(conflicts(fromRequest, toRequest, null), pageable);
+  }
+
+  @Override
+  public List<ConferenceRoomBookingSummary> findConferenceRoomConflictsAfter(LocalDateTime fromRequest, LocalDateTime toRequest,
+                                                                             LocalDateTime afterFromTimestamp, Long afterId,
+                                                                             Pageable pageable) {
+    return page(conflicts(fromRequest, toRequest, new WindowKey(afterFromTimestamp, afterId)), pageable);
+  }
+
+  @Override
+  public void streamConferenceRoomConflicts(LocalDateTime fromRequest, LocalDateTime toRequest,
+                                            Consumer<ConferenceRoomBookingSummary> consumer) {
+    conflicts(fromRequest, toRequest, null).map(ConferenceRoomBookingSummary::of).forEach(consumer);
+  }
+
+  /**
+   * Writes a snapshot of the current state and drops the journal segments and snapshots it supersedes. The state is
+   * copied together with the rotation, which syncs every change applied so far, so the snapshot holds no change that
+   * could still be undone and none that is missing from the segments it keeps.
+   */
+  public void snapshot() throws IOException {
+    long sequence;
+    long maxId;
+    List<ConferenceRoomBooking> conferenceRoomBookings;
+    writeLock.lock();
+    try {
+      sequence = journal.rotate();
+      maxId = ids.get();
+      conferenceRoomBookings = List.copyOf(bookingsById.values());
+      appendedSinceSnapshot.set(0);
+    } finally {
+      writeLock.unlock();
+    }
+    BookingSnapshots.write(directory, sequence, maxId, conferenceRoomBookings);
+    journal.deleteSegmentsBefore(sequence);
+    BookingSnapshots.deleteBefore(directory, sequence);
+  }
+
+  @Override
+  public void close() throws IOException {
+    snapshotExecutor.shutdown();
+    try {
+      snapshotExecutor.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    journal.close();
+  }
+
+  /**
+   * Waits until the appended changes are synced, and undoes them in memory if they could not be.
+   */
+  private void awaitDurable(long position, int appended, Runnable undo) {
+    try {
+      journal.awaitDurable(position);
+    } catch (UncheckedIOException e) {
+      writeLock.lock();
+      try {
+        undo.run();
+      } finally {
+        writeLock.unlock();
+      }
+      throw new DataAccessResourceFailureException("Could not sync the booking journal", e);
+    }
+    if (appendedSinceSnapshot.addAndGet(appended) >= snapshotInterval && snapshotting.compareAndSet(false, true)) {
+      snapshotExecutor.execute(() -> {
+        try {
+          snapshot();
+        } catch (IOException | RuntimeException e) {
+          log.warn("Could not write a booking snapshot to {}", directory, e);
+        } finally {
+          snapshotting.set(false);
+        }
+      });
+    }
+  }
+
+  /**
+   * Bookings overlapping the window, ordered by start and id. Bookings lie within one day, so only the bookings starting
+   * on the first day of the window or later can overlap it.
+   */
+  private Stream<ConferenceRoomBooking> conflicts(LocalDateTime fromRequest, LocalDateTime toRequest, WindowKey after) {
+    WindowKey lowest = new WindowKey(fromRequest.toLocalDate().atStartOfDay(), Long.MIN_VALUE);
+    boolean afterIsHigher = after != null && after.compareTo(lowest) > 0;
+    return bookingsByWindow
+        .subMap(afterIsHigher ? after : lowest, !afterIsHigher, new WindowKey(toRequest, Long.MAX_VALUE), true)
+        .values().stream()
+        .filter(conferenceRoomBooking -> !conferenceRoomBooking.getToTimestamp().isBefore(fromRequest));
+  }
+
+  private static List<ConferenceRoomBookingSummary> page(Stream<ConferenceRoomBooking> conferenceRoomBookings, Pageable pageable) {
+    Stream<ConferenceRoomBooking> page = pageable.isPaged()
+        ? conferenceRoomBookings.skip(pageable.getOffset()).limit(pageable.getPageSize())
+        : conferenceRoomBookings;
+    return page.map(ConferenceRoomBookingSummary::of).toList();
+  }
+
+  private static RuntimeException appendFailure(RuntimeException e) {
+    return e instanceof UncheckedIOException ? new DataAccessResourceFailureException("Could not append to the booking journal", e) : e;
+  }
+
+  /**
+   * Takes saved bookings back and restores the ones they replaced, except where another writer has changed the booking
+   * or taken the window since.
+   */
+  private void undoSave(List<ConferenceRoomBooking> saved, List<ConferenceRoomBooking> replaced) {
+    for (int i = saved.size() - 1; i >= 0; i--) {
+      ConferenceRoomBooking conferenceRoomBooking = saved.get(i);
+      if (bookingsById.get(conferenceRoomBooking.getId()) == conferenceRoomBooking) {
+        remove(conferenceRoomBooking.getId());
+        if (replaced.get(i) != null && findOverlapping(replaced.get(i)) == null) {
+          put(replaced.get(i));
+        }
+      }
+    }
+  }
+
+  /**
+   * Restores removed bookings, except where another writer has saved the booking again or taken the window since.
+   */
+  private void undoDelete(List<ConferenceRoomBooking> removed) {
+    for (ConferenceRoomBooking conferenceRoomBooking : removed) {
+      if (!bookingsById.containsKey(conferenceRoomBooking.getId()) && findOverlapping(conferenceRoomBooking) == null) {
+        put(conferenceRoomBooking);
+      }
+    }
+  }
+
+  private void validate(ConferenceRoomBooking conferenceRoomBooking) {
+    LocalDateTime from = conferenceRoomBooking.getFromTimestamp();
+    LocalDateTime to = conferenceRoomBooking.getToTimestamp();
+    if (!to.isAfter(from) || !from.toLocalDate().equals(to.toLocalDate())) {
+      throw new DataIntegrityViolationException("Booking from %s to %s must end after it starts and on the same day".formatted(from, to));
+    }
+    ConferenceRoomBooking other = findOverlapping(conferenceRoomBooking);
+    if (other != null) {
+      throw new DataIntegrityViolationException("Booking from %s to %s overlaps booking %d of conference room %s"
+          .formatted(from, to, other.getId(), conferenceRoomBooking.getConferenceRoom()));
+    }
+  }
+
+  private ConferenceRoomBooking findOverlapping(ConferenceRoomBooking conferenceRoomBooking) {
+    LocalDateTime from = conferenceRoomBooking.getFromTimestamp();
+    LocalDateTime to = conferenceRoomBooking.getToTimestamp();
+    NavigableMap<LocalDateTime, ConferenceRoomBooking> conferenceRoomBookings = bookingsByConferenceRoom.get(conferenceRoomBooking.getConferenceRoom());
+    if (conferenceRoomBookings == null) {
+      return null;
+    }
+    for (ConferenceRoomBooking other : conferenceRoomBookings.subMap(from.toLocalDate().atStartOfDay(), true, to, true).values()) {
+      if (!other.getToTimestamp().isBefore(from) && !other.getId().equals(conferenceRoomBooking.getId())) {
+        return other;
+      }
+    }
+    return null;
+  }
+
+  private void replay(BookingJournal.Entry entry) {
+    switch (entry.operation()) {
+      case SAVE -> put(entry.conferenceRoomBooking());
+      case DELETE -> remove(entry.id());
+      case DELETE_ALL -> clear();
+    }
+  }
+
+  private ConferenceRoomBooking put(ConferenceRoomBooking conferenceRoomBooking) {
+    ConferenceRoomBooking replaced = remove(conferenceRoomBooking.getId());
+    bookingsById.put(conferenceRoomBooking.getId(), conferenceRoomBooking);
+    bookingsByWindow.put(WindowKey.of(conferenceRoomBooking), conferenceRoomBooking);
+    bookingsByConferenceRoom.computeIfAbsent(conferenceRoomBooking.getConferenceRoom(), conferenceRoom -> new ConcurrentSkipListMap<>())
+        .put(conferenceRoomBooking.getFromTimestamp(), conferenceRoomBooking);
+    ids.accumulateAndGet(conferenceRoomBooking.getId(), Math::max);
+    return replaced;
+  }
+
+  private ConferenceRoomBooking remove(Long id) {
+    ConferenceRoomBooking removed = bookingsById.remove(id);
+    if (removed != null) {
+      bookingsByWindow.remove(WindowKey.of(removed));
+      bookingsByConferenceRoom.get(removed.getConferenceRoom()).remove(removed.getFromTimestamp(), removed);
+    }
+    return removed;
+  }
+
+  private void clear() {
+    bookingsById.clear();
+    bookingsByWindow.clear();
+    bookingsByConferenceRoom.clear();
+  }
+
+  private record WindowKey(LocalDateTime fromTimestamp, long id) implements Comparable<WindowKey> {
+
+    static WindowKey of(ConferenceRoomBooking conferenceRoomBooking) {
+      return new WindowKey(conferenceRoomBooking.getFromTimestamp(), conferenceRoomBooking.getId());
+    }
+
+    @Override
+    public int compareTo(WindowKey other) {
+      int byFromTimestamp = fromTimestamp.compareTo(other.fromTimestamp);
+      return byFromTimestamp != 0 ? byFromTimestamp : Long.compare(id, other.id);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.conferenceroombooking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "booking.admission")
+public record AdmissionProperties(@DefaultValue("true") boolean enabled, @DefaultValue("1s") Duration retryAfter,
+                                  @DefaultValue Limit writes, @DefaultValue Limit reads) {
+
+  public record Limit(@DefaultValue("32") int initialLimit, @DefaultValue("4") int minLimit,
+                      @DefaultValue("256") int maxLimit, @DefaultValue("64") int queueSize,
+                      @DefaultValue("50ms") Duration queueTimeout, @DefaultValue("50ms") Duration targetLatency) {
+  }
+}
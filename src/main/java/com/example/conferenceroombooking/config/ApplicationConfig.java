@@ -1,15 +1,99 @@
 package com.example.conferenceroombooking.config;
 
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomLocks;
+import com.example.conferenceroombooking.adapters.outgoing.journal.JournalConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.core.service.AvailabilityChangeFeed;
+import com.example.conferenceroombooking.core.service.BookingStateVersion;
+import com.example.conferenceroombooking.core.service.ClusterConferenceRoomReservations;
+import com.example.conferenceroombooking.core.service.ConferenceRoomBookingIndex;
+import com.example.conferenceroombooking.core.service.ConferenceRoomBookingWriter;
+import com.example.conferenceroombooking.core.service.ConferenceRoomReservations;
+import com.example.conferenceroombooking.core.service.ConferenceRoomSlotGrid;
+import com.example.conferenceroombooking.core.service.MaintenanceWindows;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.time.Clock;
 
 @Configuration
+@EnableConfigurationProperties({AdmissionProperties.class, AvailabilityProperties.class, IdempotencyProperties.class,
+    MaintenanceProperties.class, PersistenceProperties.class})
 public class ApplicationConfig {
 
   @Bean
   public Clock clock() {
     return Clock.systemDefaultZone();
   }
+
+  @Bean
+  public ConferenceRoomBookingIndex conferenceRoomBookingIndex(AvailabilityProperties availabilityProperties) {
+    return new ConferenceRoomBookingIndex(
+        new ConferenceRoomSlotGrid(availabilityProperties.slotMinutes()), availabilityProperties.mode());
+  }
+
+  @Bean
+  public AvailabilityChangeFeed availabilityChangeFeed(AvailabilityProperties availabilityProperties) {
+    return new AvailabilityChangeFeed(availabilityProperties.feed().bufferSize(),
+        availabilityProperties.feed().maxSubscribers(), availabilityProperties.feed().heartbeatInterval());
+  }
+
+  @Bean
+  public MaintenanceWindows maintenanceWindows(MaintenanceProperties maintenanceProperties,
+      AvailabilityChangeFeed availabilityChangeFeed, BookingStateVersion bookingStateVersion) {
+    return new MaintenanceWindows(maintenanceProperties.maintenanceWindows(), availabilityChangeFeed, bookingStateVersion);
+  }
+
+  /**
+   * The booking store used by the application, either the JPA repository or the local journal.
+   */
+  @Bean
+  @Primary
+  public ConferenceRoomBookingRepository bookingStore(PersistenceProperties persistenceProperties,
+      @Qualifier("conferenceRoomBookingRepository") ConferenceRoomBookingRepository conferenceRoomBookingRepository) throws IOException {
+    return switch (persistenceProperties.store()) {
+      case JPA -> conferenceRoomBookingRepository;
+      case JOURNAL -> new JournalConferenceRoomBookingRepository(
+          persistenceProperties.journal().directory(), persistenceProperties.journal().snapshotInterval());
+    };
+  }
+
+  /**
+   * Books through row locks in the shared database when other instances of the application use it as well.
+   */
+  @Bean
+  public ClusterConferenceRoomReservations clusterConferenceRoomReservations(PersistenceProperties persistenceProperties,
+      ConferenceRoomLocks conferenceRoomLocks, ConferenceRoomBookingRepository bookingStore,
+      PlatformTransactionManager transactionManager, ConferenceRoomBookingIndex conferenceRoomBookingIndex,
+      ConferenceRoomReservations conferenceRoomReservations) {
+    if (persistenceProperties.cluster() && persistenceProperties.store() != BookingStore.JPA) {
+      throw new IllegalStateException("Running as a cluster requires the jpa booking store");
+    }
+    return new ClusterConferenceRoomReservations(persistenceProperties.cluster(), conferenceRoomLocks, bookingStore,
+        new TransactionTemplate(transactionManager), conferenceRoomBookingIndex, conferenceRoomReservations);
+  }
+
+  /**
+   * Stores single bookings, in group commits if enabled.
+   */
+  @Bean
+  public ConferenceRoomBookingWriter conferenceRoomBookingWriter(PersistenceProperties persistenceProperties,
+      ConferenceRoomBookingRepository bookingStore, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+    PersistenceProperties.GroupCommit groupCommit = persistenceProperties.groupCommit();
+    if (!groupCommit.enabled()) {
+      return new ConferenceRoomBookingWriter(bookingStore);
+    }
+    if (persistenceProperties.store() != BookingStore.JPA || persistenceProperties.cluster()) {
+      throw new IllegalStateException("Group commit requires the jpa booking store and is not available when running as a cluster");
+    }
+    return new ConferenceRoomBookingWriter(bookingStore, new TransactionTemplate(transactionManager),
+        groupCommit.maxBatchSize(), groupCommit.maxWait(), meterRegistry);
+  }
 }
@@ -0,0 +1,16 @@
+package com.example.conferenceroombooking.config;
+
+import com.example.conferenceroombooking.core.service.AvailabilityMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "booking.availability")
+public record AvailabilityProperties(@DefaultValue("INDEX") AvailabilityMode mode, @DefaultValue("15") int slotMinutes,
+                                     @DefaultValue Feed feed) {
+
+  public record Feed(@DefaultValue("256") int bufferSize, @DefaultValue("1000") int maxSubscribers,
+                     @DefaultValue("15s") Duration heartbeatInterval) {
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.conferenceroombooking.config;
+
+public enum BookingStore {
+  JPA, JOURNAL
+}
@@ -0,0 +1,10 @@
+package com.example.conferenceroombooking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "booking.idempotency")
+public record IdempotencyProperties(@DefaultValue("24h") Duration ttl, @DefaultValue("10000") int maxKeys) {
+}
@@ -0,0 +1,25 @@
+package com.example.conferenceroombooking.config;
+
+import com.example.conferenceroombooking.core.domain.MaintenanceWindow;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "booking.maintenance")
+public record MaintenanceProperties(@DefaultValue List<Window> windows) {
+
+  public List<MaintenanceWindow> maintenanceWindows() {
+    return windows.stream()
+        .map(window -> new MaintenanceWindow(window.start(), window.end(), window.days(), window.conferenceRooms()))
+        .toList();
+  }
+
+  public record Window(@DateTimeFormat(pattern = "HH:mm") LocalTime start, @DateTimeFormat(pattern = "HH:mm") LocalTime end,
+                       @DefaultValue Set<DayOfWeek> days, @DefaultValue Set<String> conferenceRooms) {
+  }
+}
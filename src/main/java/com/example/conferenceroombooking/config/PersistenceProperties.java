@@ -0,0 +1,19 @@
+package com.example.conferenceroombooking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "booking.persistence")
+public record PersistenceProperties(@DefaultValue("JPA") BookingStore store, @DefaultValue Journal journal,
+                                    @DefaultValue("false") boolean cluster, @DefaultValue GroupCommit groupCommit) {
+
+  public record GroupCommit(@DefaultValue("false") boolean enabled, @DefaultValue("50") int maxBatchSize,
+                            @DefaultValue("2ms") Duration maxWait) {
+  }
+
+  public record Journal(@DefaultValue("data/journal") Path directory, @DefaultValue("100000") int snapshotInterval) {
+  }
+}
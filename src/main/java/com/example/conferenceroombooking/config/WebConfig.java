@@ -0,0 +1,28 @@
+package com.example.conferenceroombooking.config;
+
+import com.example.conferenceroombooking.adapters.incoming.AdmissionControl;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@AllArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+  private final AdmissionProperties admissionProperties;
+  private final AdmissionControl admissionControl;
+
+  /**
+   * Admission control covers the requests of the booking API that complete within the request. The booking stream and
+   * the availability feed stay open for as long as the client reads and are left out.
+   */
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    if (admissionProperties.enabled()) {
+      registry.addInterceptor(admissionControl)
+          .addPathPatterns("/api/conference-room/**")
+          .excludePathPatterns("/api/conference-room/bookings/stream", "/api/conference-room/availability/changes");
+    }
+  }
+}
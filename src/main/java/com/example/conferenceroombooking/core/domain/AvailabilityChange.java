@@ -0,0 +1,17 @@
+package com.example.conferenceroombooking.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A change to the availability of the conference rooms. {@link Type#BOOKED} carries the booked room and window,
+ * {@link Type#RECURRING_BOOKED} the room, the window of the first occurrence, the recurrence and the last day it recurs
+ * on. {@link Type#MAINTENANCE} and {@link Type#RESYNC} tell the subscriber to fetch the availability it shows again.
+ */
+public record AvailabilityChange(long sequence, Type type, String conferenceRoom, LocalDateTime from, LocalDateTime to,
+                                 Recurrence recurrence, LocalDate until) {
+
+  public enum Type {
+    BOOKED, RECURRING_BOOKED, MAINTENANCE, RESYNC
+  }
+}
@@ -0,0 +1,6 @@
+package com.example.conferenceroombooking.core.domain;
+
+import java.time.LocalDateTime;
+
+public record AvailableSlot(LocalDateTime from, LocalDateTime to, ConferenceRoom conferenceRoom) {
+}
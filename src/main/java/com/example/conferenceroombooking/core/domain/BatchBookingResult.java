@@ -0,0 +1,16 @@
+package com.example.conferenceroombooking.core.domain;
+
+public record BatchBookingResult(BatchBookingStatus status, ConferenceRoomBooking conferenceRoomBooking, String message) {
+
+  public static BatchBookingResult booked(ConferenceRoomBooking conferenceRoomBooking) {
+    return new BatchBookingResult(BatchBookingStatus.BOOKED, conferenceRoomBooking, null);
+  }
+
+  public static BatchBookingResult rejected(String message) {
+    return new BatchBookingResult(BatchBookingStatus.REJECTED, null, message);
+  }
+
+  public static BatchBookingResult invalid(String message) {
+    return new BatchBookingResult(BatchBookingStatus.INVALID, null, message);
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.conferenceroombooking.core.domain;
+
+public enum BatchBookingStatus {
+  BOOKED,
+  REJECTED,
+  INVALID
+}
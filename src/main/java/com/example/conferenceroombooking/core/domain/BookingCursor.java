@@ -0,0 +1,10 @@
+package com.example.conferenceroombooking.core.domain;
+
+import java.time.LocalDateTime;
+
+public record BookingCursor(LocalDateTime fromTimestamp, Long id) {
+
+  public static BookingCursor of(ConferenceRoomBookingSummary conferenceRoomBooking) {
+    return new BookingCursor(conferenceRoomBooking.fromTimestamp(), conferenceRoomBooking.id());
+  }
+}
@@ -22,6 +22,7 @@ public class ConferenceRoomBooking {
   private LocalDateTime fromTimestamp;
   private LocalDateTime toTimestamp;
   private int numberOfParticipants;
+  private Long conferenceRoomId;
   private String conferenceRoom;
 
   @Override
@@ -0,0 +1,15 @@
+package com.example.conferenceroombooking.core.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns a booking listing answers with, read without the entity, so a listed booking can never end up saved.
+ * The id is only kept as the tie-breaker of the page cursor.
+ */
+public record ConferenceRoomBookingSummary(Long id, LocalDateTime fromTimestamp, LocalDateTime toTimestamp, String conferenceRoom) {
+
+  public static ConferenceRoomBookingSummary of(ConferenceRoomBooking conferenceRoomBooking) {
+    return new ConferenceRoomBookingSummary(conferenceRoomBooking.getId(), conferenceRoomBooking.getFromTimestamp(),
+        conferenceRoomBooking.getToTimestamp(), conferenceRoomBooking.getConferenceRoom());
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.conferenceroombooking.core.domain;
+
+/**
+ * Rooms added by an import, and those skipped as a room of the same name exists already.
+ */
+public record ConferenceRoomImportResult(int imported, int skipped) {
+}
@@ -0,0 +1,14 @@
+package com.example.conferenceroombooking.core.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Free/busy bitmaps of every conference room for one day, bit {@code i} standing for the {@code i}-th slot of
+ * {@code slotMinutes} minutes.
+ */
+public record DayAvailability(LocalDate day, int slotMinutes, int slotsPerDay, List<ConferenceRoomDay> conferenceRooms) {
+
+  public record ConferenceRoomDay(ConferenceRoom conferenceRoom, long[] bookedSlots, long[] maintenanceSlots) {
+  }
+}
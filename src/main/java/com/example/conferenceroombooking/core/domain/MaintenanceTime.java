@@ -1,6 +0,0 @@
-package com.example.conferenceroombooking.core.domain;
-
-import java.time.LocalTime;
-
-public record MaintenanceTime(LocalTime start, LocalTime end) {
-}
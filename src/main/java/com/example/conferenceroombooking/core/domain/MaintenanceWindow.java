@@ -0,0 +1,33 @@
+package com.example.conferenceroombooking.core.domain;
+
+import lombok.Builder;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * Time of day during which conference rooms cannot be booked. Applies to every day and every room unless restricted to
+ * some {@code days} or {@code conferenceRooms}. An end of 00:00 means the end of the day.
+ */
+@Builder
+public record MaintenanceWindow(LocalTime start, LocalTime end, Set<DayOfWeek> days, Set<String> conferenceRooms) {
+
+  public MaintenanceWindow {
+    if (start == null || end == null) {
+      throw new IllegalArgumentException("A maintenance window needs a start and an end");
+    }
+    if (start.getSecond() != 0 || start.getNano() != 0 || end.getSecond() != 0 || end.getNano() != 0) {
+      throw new IllegalArgumentException("A maintenance window must start and end on a full minute, but was %s - %s".formatted(start, end));
+    }
+    if (!end.equals(LocalTime.MIDNIGHT) && !end.isAfter(start)) {
+      throw new IllegalArgumentException("A maintenance window must end after it starts, but was %s - %s".formatted(start, end));
+    }
+    days = days == null ? Set.of() : Set.copyOf(days);
+    conferenceRooms = conferenceRooms == null ? Set.of() : Set.copyOf(conferenceRooms);
+  }
+
+  public MaintenanceWindow(LocalTime start, LocalTime end) {
+    this(start, end, Set.of(), Set.of());
+  }
+}
@@ -0,0 +1,5 @@
+package com.example.conferenceroombooking.core.domain;
+
+public enum Recurrence {
+  DAILY, WEEKLY
+}
@@ -0,0 +1,14 @@
+package com.example.conferenceroombooking.core.domain;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A booking repeated by the recurrence from its first occurrence, {@code from} to {@code to}, until the given day.
+ */
+@Builder
+public record RecurringBooking(LocalDateTime from, LocalDateTime to, Recurrence recurrence, LocalDate until,
+                               int numberOfParticipants) {
+}
@@ -0,0 +1,126 @@
+package com.example.conferenceroombooking.core.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A recurring booking stored as its rule. Occurrences are only expanded for the window asked for and lie within a day
+ * each, from {@code startTime} to {@code endTime}, on every day or every week from {@code firstDay} to {@code lastDay}.
+ */
+@Entity
+@Table(name = "recurring_conference_room_bookings")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecurringConferenceRoomBooking {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private Long id;
+  private LocalTime startTime;
+  private LocalTime endTime;
+  private LocalDate firstDay;
+  private LocalDate lastDay;
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  private Recurrence recurrence;
+  private int numberOfParticipants;
+  private Long conferenceRoomId;
+  private String conferenceRoom;
+
+  public Set<DayOfWeek> daysOfWeek() {
+    return recurrence == Recurrence.DAILY ? EnumSet.allOf(DayOfWeek.class) : EnumSet.of(firstDay.getDayOfWeek());
+  }
+
+  public boolean occursOn(LocalDate day) {
+    return !day.isBefore(firstDay) && !day.isAfter(lastDay)
+        && (recurrence == Recurrence.DAILY || day.getDayOfWeek() == firstDay.getDayOfWeek());
+  }
+
+  /**
+   * The occurrence on the day as a booking of its own, which is never stored.
+   */
+  public ConferenceRoomBooking occurrenceOn(LocalDate day) {
+    return ConferenceRoomBooking.builder()
+        .fromTimestamp(day.atTime(startTime))
+        .toTimestamp(day.atTime(endTime))
+        .numberOfParticipants(numberOfParticipants)
+        .conferenceRoomId(conferenceRoomId)
+        .conferenceRoom(conferenceRoom)
+        .build();
+  }
+
+  /**
+   * The occurrences overlapping the window, walking only the days of the window the booking recurs on.
+   */
+  public List<ConferenceRoomBooking> occurrences(LocalDateTime from, LocalDateTime to) {
+    List<ConferenceRoomBooking> occurrences = new ArrayList<>();
+    LocalDate last = to.toLocalDate().isBefore(lastDay) ? to.toLocalDate() : lastDay;
+    LocalDate day = from.toLocalDate().isAfter(firstDay) ? from.toLocalDate() : firstDay;
+    int step = 1;
+    if (recurrence == Recurrence.WEEKLY) {
+      day = day.with(TemporalAdjusters.nextOrSame(firstDay.getDayOfWeek()));
+      step = 7;
+    }
+    for (; !day.isAfter(last); day = day.plusDays(step)) {
+      if (overlaps(day, from, to)) {
+        occurrences.add(occurrenceOn(day));
+      }
+    }
+    return occurrences;
+  }
+
+  /**
+   * Whether the occurrence on the day, if any, overlaps the window. Bounds are inclusive, as for bookings.
+   */
+  public boolean overlaps(LocalDate day, LocalDateTime from, LocalDateTime to) {
+    return occursOn(day) && !day.atTime(startTime).isAfter(to) && !day.atTime(endTime).isBefore(from);
+  }
+
+  /**
+   * Whether any occurrence of both bookings falls on the same day at overlapping times.
+   */
+  public boolean overlaps(RecurringConferenceRoomBooking other) {
+    if (startTime.isAfter(other.endTime) || endTime.isBefore(other.startTime)) {
+      return false;
+    }
+    LocalDate first = firstDay.isAfter(other.firstDay) ? firstDay : other.firstDay;
+    LocalDate last = lastDay.isBefore(other.lastDay) ? lastDay : other.lastDay;
+    // Every week day comes up within seven consecutive days.
+    for (LocalDate day = first; !day.isAfter(last) && day.isBefore(first.plusDays(7)); day = day.plusDays(1)) {
+      if (occursOn(day) && other.occursOn(day)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    RecurringConferenceRoomBooking that = (RecurringConferenceRoomBooking) o;
+    return Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(id);
+  }
+}
@@ -0,0 +1,136 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.AvailabilityChange;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * Fans availability changes out to subscribers. Every subscriber has a bounded buffer of its own and publishing only
+ * offers to those buffers, so a slow subscriber never holds up a booking. A subscriber that falls behind by a whole
+ * buffer loses the buffered changes and gets a single {@link AvailabilityChange.Type#RESYNC} in their place. At most
+ * {@code maxSubscribers} subscriptions are open at a time.
+ */
+public class AvailabilityChangeFeed {
+
+  private final int bufferSize;
+  private final int maxSubscribers;
+  private final Duration pollInterval;
+  private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+  private final AtomicLong sequence = new AtomicLong();
+  private final ReentrantLock subscribeLock = new ReentrantLock();
+
+  public AvailabilityChangeFeed(int bufferSize, int maxSubscribers, Duration pollInterval) {
+    if (bufferSize < 2) {
+      throw new IllegalArgumentException("The buffer of a subscriber must hold at least 2 changes, but was " + bufferSize);
+    }
+    if (maxSubscribers < 1) {
+      throw new IllegalArgumentException("The feed must allow at least 1 subscriber, but was " + maxSubscribers);
+    }
+    this.bufferSize = bufferSize;
+    this.maxSubscribers = maxSubscribers;
+    this.pollInterval = pollInterval;
+  }
+
+  /**
+   * A new subscription, or none if the feed already has as many subscribers as it allows.
+   */
+  public Optional<Subscription> subscribe() {
+    subscribeLock.lock();
+    try {
+      if (subscriptions.size() >= maxSubscribers) {
+        return Optional.empty();
+      }
+      Subscription subscription = new Subscription();
+      subscriptions.add(subscription);
+      return Optional.of(subscription);
+    } finally {
+      subscribeLock.unlock();
+    }
+  }
+
+  public void booked(ConferenceRoomBooking conferenceRoomBooking) {
+    publish(sequence -> new AvailabilityChange(sequence, AvailabilityChange.Type.BOOKED, conferenceRoomBooking.getConferenceRoom(),
+        conferenceRoomBooking.getFromTimestamp(), conferenceRoomBooking.getToTimestamp(), null, null));
+  }
+
+  /**
+   * Publishes the rule rather than an occurrence, as every occurrence up to the last day takes its window.
+   */
+  public void bookedRecurring(RecurringConferenceRoomBooking recurringConferenceRoomBooking) {
+    ConferenceRoomBooking firstOccurrence = recurringConferenceRoomBooking.occurrenceOn(recurringConferenceRoomBooking.getFirstDay());
+    publish(sequence -> new AvailabilityChange(sequence, AvailabilityChange.Type.RECURRING_BOOKED,
+        recurringConferenceRoomBooking.getConferenceRoom(), firstOccurrence.getFromTimestamp(), firstOccurrence.getToTimestamp(),
+        recurringConferenceRoomBooking.getRecurrence(), recurringConferenceRoomBooking.getLastDay()));
+  }
+
+  public void maintenanceChanged() {
+    publish(sequence -> new AvailabilityChange(sequence, AvailabilityChange.Type.MAINTENANCE, null, null, null, null, null));
+  }
+
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  private void publish(LongFunction<AvailabilityChange> change) {
+    if (subscriptions.isEmpty()) {
+      return;
+    }
+    AvailabilityChange availabilityChange = change.apply(sequence.incrementAndGet());
+    subscriptions.forEach(subscription -> subscription.offer(availabilityChange));
+  }
+
+  public final class Subscription implements AutoCloseable {
+
+    private final BlockingQueue<AvailabilityChange> changes = new ArrayBlockingQueue<>(bufferSize);
+    private final ReentrantLock offerLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    private Subscription() {
+    }
+
+    /**
+     * The next change, or {@code null} if there was none within the poll interval of the feed.
+     */
+    public AvailabilityChange poll() throws InterruptedException {
+      return changes.poll(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isClosed() {
+      return closed;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      subscriptions.remove(this);
+    }
+
+    /**
+     * Offers are serialized per subscription, so no change of a concurrent publisher slips in between clearing a full
+     * buffer and putting the resync into it.
+     */
+    private void offer(AvailabilityChange availabilityChange) {
+      offerLock.lock();
+      try {
+        if (changes.offer(availabilityChange)) {
+          return;
+        }
+        changes.clear();
+        changes.offer(new AvailabilityChange(availabilityChange.sequence(), AvailabilityChange.Type.RESYNC, null, null, null, null, null));
+      } finally {
+        offerLock.unlock();
+      }
+    }
+  }
+}
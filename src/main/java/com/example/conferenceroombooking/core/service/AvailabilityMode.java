@@ -0,0 +1,6 @@
+package com.example.conferenceroombooking.core.service;
+
+public enum AvailabilityMode {
+  INDEX,
+  SLOT_GRID
+}
@@ -0,0 +1,150 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Assigns conference rooms to a batch of bookings so that as many bookings as possible are placed. Bookings are placed
+ * in order of their end, each into the smallest free room that fits, which keeps large rooms open for large meetings.
+ * Bookings that could not be placed then get a second chance by moving a single blocking batch booking into another
+ * room. The result is never worse than booking the batch one by one in submission order, as that plan is computed too
+ * and kept whenever it places more bookings.
+ */
+final class BatchRoomAssignment {
+
+  private final List<Booking> bookings;
+  private final ConferenceRoomCatalog conferenceRoomCatalog;
+  private final ConferenceRoomBookingIndex conferenceRoomBookingIndex;
+  private final MaintenanceSchedule maintenanceSchedule;
+  private final ConferenceRoom[] assignment;
+  private final Map<String, NavigableMap<LocalDateTime, Integer>> assignedByConferenceRoom = new HashMap<>();
+  private int placed;
+
+  private BatchRoomAssignment(List<Booking> bookings, ConferenceRoomCatalog conferenceRoomCatalog,
+                              ConferenceRoomBookingIndex conferenceRoomBookingIndex, MaintenanceSchedule maintenanceSchedule) {
+    this.bookings = bookings;
+    this.conferenceRoomCatalog = conferenceRoomCatalog;
+    this.conferenceRoomBookingIndex = conferenceRoomBookingIndex;
+    this.maintenanceSchedule = maintenanceSchedule;
+    this.assignment = new ConferenceRoom[bookings.size()];
+  }
+
+  static ConferenceRoom[] assign(List<Booking> bookings, ConferenceRoomCatalog conferenceRoomCatalog,
+                                 ConferenceRoomBookingIndex conferenceRoomBookingIndex, MaintenanceSchedule maintenanceSchedule) {
+    BatchRoomAssignment inSubmissionOrder =
+        new BatchRoomAssignment(bookings, conferenceRoomCatalog, conferenceRoomBookingIndex, maintenanceSchedule);
+    inSubmissionOrder.placeGreedily(IntStream.range(0, bookings.size()).boxed().toList());
+
+    BatchRoomAssignment optimized =
+        new BatchRoomAssignment(bookings, conferenceRoomCatalog, conferenceRoomBookingIndex, maintenanceSchedule);
+    List<Integer> byEnd = IntStream.range(0, bookings.size()).boxed()
+        .sorted(Comparator.<Integer, LocalDateTime>comparing(i -> bookings.get(i).to())
+            .thenComparing(i -> bookings.get(i).numberOfParticipants(), Comparator.reverseOrder()))
+        .toList();
+    optimized.placeGreedily(byEnd);
+    optimized.placeByMovingBlockers(byEnd);
+
+    return optimized.placed >= inSubmissionOrder.placed ? optimized.assignment : inSubmissionOrder.assignment;
+  }
+
+  private void placeGreedily(List<Integer> order) {
+    for (int i : order) {
+      for (ConferenceRoom conferenceRoom : eligibleConferenceRooms(i)) {
+        if (isFree(conferenceRoom, i)) {
+          place(i, conferenceRoom);
+          break;
+        }
+      }
+    }
+  }
+
+  private void placeByMovingBlockers(List<Integer> order) {
+    boolean improved = true;
+    while (improved) {
+      improved = false;
+      for (int i : order) {
+        if (assignment[i] == null && placeByMovingBlocker(i)) {
+          improved = true;
+        }
+      }
+    }
+  }
+
+  private boolean placeByMovingBlocker(int i) {
+    Booking booking = bookings.get(i);
+    for (ConferenceRoom conferenceRoom : eligibleConferenceRooms(i)) {
+      if (!conferenceRoomBookingIndex.isAvailable(conferenceRoom.getName(), booking.from(), booking.to())) {
+        continue;
+      }
+      List<Integer> blockers = assignedOverlapping(conferenceRoom, booking);
+      if (blockers.size() != 1) {
+        continue;
+      }
+      int blocker = blockers.get(0);
+      unplace(blocker);
+      for (ConferenceRoom alternative : eligibleConferenceRooms(blocker)) {
+        if (!alternative.getName().equals(conferenceRoom.getName()) && isFree(alternative, blocker)) {
+          place(blocker, alternative);
+          place(i, conferenceRoom);
+          return true;
+        }
+      }
+      place(blocker, conferenceRoom);
+    }
+    return false;
+  }
+
+  private List<ConferenceRoom> eligibleConferenceRooms(int i) {
+    Booking booking = bookings.get(i);
+    List<ConferenceRoom> conferenceRooms = conferenceRoomCatalog.getConferenceRooms(booking.numberOfParticipants());
+    if (!maintenanceSchedule.hasConferenceRoomWindows()) {
+      return conferenceRooms;
+    }
+    return conferenceRooms.stream()
+        .filter(conferenceRoom -> !maintenanceSchedule.isBlocked(conferenceRoom.getName(), booking.from(), booking.to()))
+        .toList();
+  }
+
+  private boolean isFree(ConferenceRoom conferenceRoom, int i) {
+    Booking booking = bookings.get(i);
+    return assignedOverlapping(conferenceRoom, booking).isEmpty()
+        && conferenceRoomBookingIndex.isAvailable(conferenceRoom.getName(), booking.from(), booking.to());
+  }
+
+  private List<Integer> assignedOverlapping(ConferenceRoom conferenceRoom, Booking booking) {
+    NavigableMap<LocalDateTime, Integer> assigned = assignedByConferenceRoom.get(conferenceRoom.getName());
+    if (assigned == null) {
+      return List.of();
+    }
+    LocalDateTime firstKey = assigned.floorKey(booking.from());
+    List<Integer> overlapping = new ArrayList<>();
+    for (int j : assigned.subMap(firstKey == null ? booking.from() : firstKey, true, booking.to(), true).values()) {
+      if (!bookings.get(j).to().isBefore(booking.from())) {
+        overlapping.add(j);
+      }
+    }
+    return overlapping;
+  }
+
+  private void place(int i, ConferenceRoom conferenceRoom) {
+    assignment[i] = conferenceRoom;
+    assignedByConferenceRoom.computeIfAbsent(conferenceRoom.getName(), c -> new TreeMap<>()).put(bookings.get(i).from(), i);
+    placed++;
+  }
+
+  private void unplace(int i) {
+    assignedByConferenceRoom.get(assignment[i].getName()).remove(bookings.get(i).from());
+    assignment[i] = null;
+    placed--;
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.conferenceroombooking.core.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Meters of the {@link BookingService}. All meters are registered up front, so recording on the hot path is a map
+ * lookup by enum plus the meter update itself.
+ */
+@Component
+public class BookingMetrics {
+
+  public enum Operation {
+    BOOK, BOOK_BATCH, BOOK_RECURRING, AVAILABILITY, DAY_AVAILABILITY, NEXT_AVAILABLE, BOOKINGS, BOOKINGS_PAGE, BOOKINGS_STREAM,
+    RECURRING_BOOKINGS, IMPORT_CONFERENCE_ROOMS
+  }
+
+  public enum ValidationFailure {
+    PARTICIPANTS, DATE, TIME, MAINTENANCE, DURATION, BATCH_SIZE, PAGE_SIZE, CONFERENCE_ROOM
+  }
+
+  private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+  private final Map<ValidationFailure, Counter> validationFailures = new EnumMap<>(ValidationFailure.class);
+  private final Counter booked;
+  private final Counter rejected;
+
+  public BookingMetrics(MeterRegistry meterRegistry, ConferenceRoomCatalog conferenceRoomCatalog,
+                        ConferenceRoomBookingIndex conferenceRoomBookingIndex) {
+    for (Operation operation : Operation.values()) {
+      timers.put(operation, Timer.builder("booking.operations")
+          .description("Time spent in booking service operations")
+          .tag("operation", tagValue(operation))
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+    for (ValidationFailure validationFailure : ValidationFailure.values()) {
+      validationFailures.put(validationFailure, Counter.builder("booking.validation.failures")
+          .description("Requests rejected as invalid, by reason")
+          .tag("reason", tagValue(validationFailure))
+          .register(meterRegistry));
+    }
+    booked = Counter.builder("booking.bookings")
+        .description("Booking attempts by outcome")
+        .tag("outcome", "booked")
+        .register(meterRegistry);
+    rejected = Counter.builder("booking.bookings")
+        .description("Booking attempts by outcome")
+        .tag("outcome", "rejected")
+        .register(meterRegistry);
+    Gauge.builder("booking.conference.rooms", conferenceRoomCatalog, ConferenceRoomCatalog::size)
+        .description("Conference rooms in the catalog")
+        .register(meterRegistry);
+    Gauge.builder("booking.active.bookings", conferenceRoomBookingIndex, ConferenceRoomBookingIndex::size)
+        .description("Bookings held in the booking index")
+        .register(meterRegistry);
+  }
+
+  public <T> T record(Operation operation, Supplier<T> supplier) {
+    return timers.get(operation).record(supplier);
+  }
+
+  public void record(Operation operation, Runnable runnable) {
+    timers.get(operation).record(runnable);
+  }
+
+  public void booked(int count) {
+    booked.increment(count);
+  }
+
+  public void rejected(int count) {
+    rejected.increment(count);
+  }
+
+  public void validationFailed(ValidationFailure validationFailure) {
+    validationFailures.get(validationFailure).increment();
+  }
+
+  private static String tagValue(Enum<?> value) {
+    return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+}
@@ -1,15 +1,36 @@
 package com.example.conferenceroombooking.core.service;
 
+import com.example.conferenceroombooking.core.domain.AvailableSlot;
+import com.example.conferenceroombooking.core.domain.BatchBookingResult;
 import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.BookingCursor;
 import com.example.conferenceroombooking.core.domain.ConferenceRoom;
 import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomImportResult;
+import com.example.conferenceroombooking.core.domain.DayAvailability;
+import com.example.conferenceroombooking.core.domain.RecurringBooking;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 
 public interface BookingService {
 
   ConferenceRoomBooking bookConferenceRoom(Booking booking);
+  List<BatchBookingResult> bookConferenceRooms(List<Booking> bookings);
+  RecurringConferenceRoomBooking bookRecurringConferenceRoom(RecurringBooking recurringBooking);
+  ConferenceRoomImportResult importConferenceRooms(List<ConferenceRoom> conferenceRooms);
   List<ConferenceRoom> getAvailableConferenceRooms(LocalDateTime from, LocalDateTime to);
-  List<ConferenceRoomBooking> getConferenceRoomBookings(LocalDateTime from, LocalDateTime to);
+  DayAvailability getDayAvailability(LocalDate day);
+  List<AvailableSlot> getNextAvailableSlots(LocalDateTime from, Duration duration, int numberOfParticipants, int limit);
+  List<ConferenceRoomBookingSummary> getConferenceRoomBookings(LocalDateTime from, LocalDateTime to);
+  List<ConferenceRoomBookingSummary> getConferenceRoomBookings(LocalDateTime from, LocalDateTime to, BookingCursor after, int limit);
+  List<ConferenceRoomBookingSummary> getRecurringBookingOccurrences(LocalDateTime from, LocalDateTime to);
+  OptionalLong getBookingStateVersion();
+  void streamConferenceRoomBookings(LocalDateTime from, LocalDateTime to, Consumer<ConferenceRoomBookingSummary> consumer);
 }
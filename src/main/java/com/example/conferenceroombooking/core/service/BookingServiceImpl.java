@@ -2,63 +2,454 @@ package com.example.conferenceroombooking.core.service;
 
 import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
 import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomRepository;
+import com.example.conferenceroombooking.adapters.outgoing.RecurringConferenceRoomBookingRepository;
 import com.example.conferenceroombooking.core.domain.*;
+import com.example.conferenceroombooking.core.service.BookingMetrics.Operation;
+import com.example.conferenceroombooking.core.service.BookingMetrics.ValidationFailure;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.StreamSupport;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
-public class BookingServiceImpl implements BookingService {
+public class BookingServiceImpl implements BookingService, SmartInitializingSingleton {
 
-  private static final List<MaintenanceTime> MAINTENANCE_TIMES = List.of(
-      new MaintenanceTime(LocalTime.of(9, 0), LocalTime.of(9, 15)),
-      new MaintenanceTime(LocalTime.of(13, 0), LocalTime.of(13, 15)),
-      new MaintenanceTime(LocalTime.of(17, 0), LocalTime.of(17, 15)));
+  private static final String NO_CONFERENCE_ROOM_AVAILABLE = "There is no available conference rooms given your requested time frame";
+  private static final int MAX_BATCH_SIZE = 500;
+  private static final int MAX_PAGE_SIZE = 1000;
+  private static final int MAX_SLOTS = 50;
+  private static final int MAX_RECURRENCE_DAYS = 366;
+  private static final int MAX_IMPORT_SIZE = 100_000;
+  private static final int MAX_NAME_LENGTH = 255;
 
   private final Clock clock;
   private final ConferenceRoomRepository conferenceRoomRepository;
   private final ConferenceRoomBookingRepository conferenceRoomBookingRepository;
+  private final RecurringConferenceRoomBookingRepository recurringConferenceRoomBookingRepository;
+  private final ConferenceRoomCatalog conferenceRoomCatalog;
+  private final ConferenceRoomBookingIndex conferenceRoomBookingIndex;
+  private final ConferenceRoomReservations conferenceRoomReservations;
+  private final ClusterConferenceRoomReservations clusterConferenceRoomReservations;
+  private final ConferenceRoomBookingWriter conferenceRoomBookingWriter;
+  private final MaintenanceWindows maintenanceWindows;
+  private final AvailabilityChangeFeed availabilityChangeFeed;
+  private final BookingStateVersion bookingStateVersion;
+  private final BookingMetrics bookingMetrics;
+  private final ReentrantLock conferenceRoomImportLock = new ReentrantLock();
+
+  /**
+   * Loads the conference rooms and bookings once all beans are created, which is before the web server is started, so
+   * no request is ever served from an empty catalog or index.
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    loadConferenceRoomsAndBookings();
+  }
+
+  public void loadConferenceRoomsAndBookings() {
+    conferenceRoomCatalog.load(conferenceRoomRepository.findAll());
+    conferenceRoomBookingIndex.load(conferenceRoomBookingRepository.findAll());
+    conferenceRoomBookingIndex.loadRecurring(
+        recurringConferenceRoomBookingRepository.findAllByLastDayGreaterThanEqual(LocalDate.now(clock)));
+    bookingStateVersion.advance();
+  }
+
+  /**
+   * Empty when other instances book in the same database, as their bookings do not advance the version.
+   */
+  @Override
+  public OptionalLong getBookingStateVersion() {
+    return clusterConferenceRoomReservations.isEnabled() ? OptionalLong.empty() : OptionalLong.of(bookingStateVersion.get());
+  }
 
   @Override
   public ConferenceRoomBooking bookConferenceRoom(Booking booking) {
-    validateBooking(booking);
-    return getAvailableConferenceRooms(booking.from(), booking.to()).stream()
-        .filter(conferenceRoom -> conferenceRoom.getMaxCapacity() >= booking.numberOfParticipants())
-        .min(Comparator.comparingInt(ConferenceRoom::getMaxCapacity))
-        .map(conferenceRoom -> conferenceRoomBookingRepository.save(
-            ConferenceRoomBooking.builder()
-                .fromTimestamp(booking.from())
-                .toTimestamp(booking.to())
-                .numberOfParticipants(booking.numberOfParticipants())
-                .conferenceRoom(conferenceRoom.getName())
-                .build()))
-        .orElseThrow(() -> new NoConferenceRoomAvailableException("There is no available conference rooms given your requested time frame"));
+    return bookingMetrics.record(Operation.BOOK, () -> book(booking));
+  }
+
+  @Override
+  public List<BatchBookingResult> bookConferenceRooms(List<Booking> bookings) {
+    return bookingMetrics.record(Operation.BOOK_BATCH, () -> bookBatch(bookings));
+  }
+
+  @Override
+  public RecurringConferenceRoomBooking bookRecurringConferenceRoom(RecurringBooking recurringBooking) {
+    return bookingMetrics.record(Operation.BOOK_RECURRING, () -> bookRecurring(recurringBooking));
+  }
+
+  @Override
+  public ConferenceRoomImportResult importConferenceRooms(List<ConferenceRoom> conferenceRooms) {
+    return bookingMetrics.record(Operation.IMPORT_CONFERENCE_ROOMS, () -> importRooms(conferenceRooms));
   }
 
   @Override
   public List<ConferenceRoom> getAvailableConferenceRooms(LocalDateTime from, LocalDateTime to) {
+    return bookingMetrics.record(Operation.AVAILABILITY, () -> findAvailableConferenceRooms(from, to));
+  }
+
+  @Override
+  public DayAvailability getDayAvailability(LocalDate day) {
+    return bookingMetrics.record(Operation.DAY_AVAILABILITY, () -> findDayAvailability(day));
+  }
+
+  @Override
+  public List<AvailableSlot> getNextAvailableSlots(LocalDateTime from, Duration duration, int numberOfParticipants, int limit) {
+    return bookingMetrics.record(Operation.NEXT_AVAILABLE, () -> findNextAvailableSlots(from, duration, numberOfParticipants, limit));
+  }
+
+  @Override
+  public List<ConferenceRoomBookingSummary> getConferenceRoomBookings(LocalDateTime from, LocalDateTime to) {
+    return bookingMetrics.record(Operation.BOOKINGS, () -> conferenceRoomBookingRepository.findConferenceRoomConflicts(from, to));
+  }
+
+  @Override
+  public List<ConferenceRoomBookingSummary> getConferenceRoomBookings(LocalDateTime from, LocalDateTime to, BookingCursor after,
+                                                                     int limit) {
+    return bookingMetrics.record(Operation.BOOKINGS_PAGE, () -> findConferenceRoomBookings(from, to, after, limit));
+  }
+
+  @Override
+  public List<ConferenceRoomBookingSummary> getRecurringBookingOccurrences(LocalDateTime from, LocalDateTime to) {
+    return bookingMetrics.record(Operation.RECURRING_BOOKINGS, () -> findRecurringBookingOccurrences(from, to));
+  }
+
+  @Override
+  public void streamConferenceRoomBookings(LocalDateTime from, LocalDateTime to, Consumer<ConferenceRoomBookingSummary> consumer) {
+    bookingMetrics.record(Operation.BOOKINGS_STREAM, () -> conferenceRoomBookingRepository.streamConferenceRoomConflicts(from, to, consumer));
+  }
+
+  private ConferenceRoomBooking book(Booking booking) {
+    validateBooking(booking);
+    List<ConferenceRoom> candidates = getConferenceRooms(booking);
+    ConferenceRoomBooking conferenceRoomBooking = clusterConferenceRoomReservations.isEnabled()
+        ? clusterConferenceRoomReservations.book(candidates, booking).orElse(null)
+        : reserveAndSave(candidates, booking);
+    if (conferenceRoomBooking == null) {
+      bookingMetrics.rejected(1);
+      throw new NoConferenceRoomAvailableException(NO_CONFERENCE_ROOM_AVAILABLE);
+    }
+    bookingStateVersion.advance();
+    bookingMetrics.booked(1);
+    availabilityChangeFeed.booked(conferenceRoomBooking);
+    return conferenceRoomBooking;
+  }
+
+  private ConferenceRoomBooking reserveAndSave(List<ConferenceRoom> candidates, Booking booking) {
+    ConferenceRoomBooking reservation = conferenceRoomReservations.reserve(candidates, booking).orElse(null);
+    if (reservation == null) {
+      return null;
+    }
+    try {
+      return conferenceRoomBookingWriter.save(reservation);
+    } catch (RuntimeException e) {
+      conferenceRoomReservations.release(reservation);
+      bookingStateVersion.advance();
+      throw e;
+    }
+  }
+
+  private List<BatchBookingResult> bookBatch(List<Booking> bookings) {
+    if (bookings.isEmpty() || bookings.size() > MAX_BATCH_SIZE) {
+      throw invalid(ValidationFailure.BATCH_SIZE, "A batch must contain between 1 and %d bookings".formatted(MAX_BATCH_SIZE));
+    }
+    BatchBookingResult[] results = new BatchBookingResult[bookings.size()];
+    List<Integer> validPositions = new ArrayList<>();
+    for (int i = 0; i < bookings.size(); i++) {
+      try {
+        validateBooking(bookings.get(i));
+        validPositions.add(i);
+      } catch (IllegalArgumentException e) {
+        results[i] = BatchBookingResult.invalid(e.getMessage());
+      }
+    }
+    List<Booking> validBookings = validPositions.stream().map(bookings::get).toList();
+    if (!validBookings.isEmpty()) {
+      clusterConferenceRoomReservations.refresh(
+          validBookings.stream().map(Booking::from).min(LocalDateTime::compareTo).orElseThrow(),
+          validBookings.stream().map(Booking::to).max(LocalDateTime::compareTo).orElseThrow());
+    }
+    ConferenceRoom[] assignment = BatchRoomAssignment.assign(validBookings, conferenceRoomCatalog, conferenceRoomBookingIndex,
+        maintenanceWindows.getSchedule());
+    ConferenceRoomBooking[] reservations = clusterConferenceRoomReservations.isEnabled()
+        ? bookInCluster(validBookings, assignment)
+        : reserveAndSaveAll(validBookings, assignment);
+
+    List<ConferenceRoomBooking> booked = Arrays.stream(reservations).filter(Objects::nonNull).toList();
+    bookingStateVersion.advance();
+    bookingMetrics.booked(booked.size());
+    bookingMetrics.rejected(validBookings.size() - booked.size());
+    booked.forEach(availabilityChangeFeed::booked);
+
+    for (int j = 0; j < validBookings.size(); j++) {
+      results[validPositions.get(j)] = reservations[j] == null
+          ? BatchBookingResult.rejected(NO_CONFERENCE_ROOM_AVAILABLE)
+          : BatchBookingResult.booked(reservations[j]);
+    }
+    return List.of(results);
+  }
+
+  /**
+   * Reserves the whole batch in the index first and saves it at once, so it is stored completely or not at all.
+   */
+  private ConferenceRoomBooking[] reserveAndSaveAll(List<Booking> bookings, ConferenceRoom[] assignment) {
+    ConferenceRoomBooking[] reservations = new ConferenceRoomBooking[bookings.size()];
+    for (int j = 0; j < bookings.size(); j++) {
+      if (assignment[j] != null) {
+        reservations[j] = reserve(bookings.get(j), List.of(assignment[j]));
+      }
+    }
+    for (int j = 0; j < bookings.size(); j++) {
+      if (reservations[j] == null) {
+        reservations[j] = reserve(bookings.get(j), List.of());
+      }
+    }
+    List<ConferenceRoomBooking> reserved = Arrays.stream(reservations).filter(Objects::nonNull).toList();
+    try {
+      conferenceRoomBookingRepository.saveAll(reserved);
+    } catch (RuntimeException e) {
+      reserved.forEach(conferenceRoomReservations::release);
+      bookingStateVersion.advance();
+      throw e;
+    }
+    return reservations;
+  }
+
+  /**
+   * Books the batch one booking at a time in the shared database, so bookings stored before a failure stay stored.
+   */
+  private ConferenceRoomBooking[] bookInCluster(List<Booking> bookings, ConferenceRoom[] assignment) {
+    ConferenceRoomBooking[] reservations = new ConferenceRoomBooking[bookings.size()];
+    for (int j = 0; j < bookings.size(); j++) {
+      if (assignment[j] != null) {
+        reservations[j] = clusterConferenceRoomReservations.book(List.of(assignment[j]), bookings.get(j)).orElse(null);
+      }
+    }
+    for (int j = 0; j < bookings.size(); j++) {
+      if (reservations[j] == null) {
+        reservations[j] = clusterConferenceRoomReservations.book(getConferenceRooms(bookings.get(j)), bookings.get(j)).orElse(null);
+      }
+    }
+    return reservations;
+  }
+
+  private RecurringConferenceRoomBooking bookRecurring(RecurringBooking recurringBooking) {
+    if (clusterConferenceRoomReservations.isEnabled()) {
+      throw new IllegalStateException("Recurring bookings are not supported when running as a cluster");
+    }
+    validateRecurringBooking(recurringBooking);
+    RecurringConferenceRoomBooking reservation = conferenceRoomReservations
+        .reserveRecurring(getConferenceRooms(recurringBooking), recurringBooking)
+        .orElse(null);
+    if (reservation == null) {
+      bookingMetrics.rejected(1);
+      throw new NoConferenceRoomAvailableException(NO_CONFERENCE_ROOM_AVAILABLE);
+    }
+    RecurringConferenceRoomBooking recurringConferenceRoomBooking;
+    try {
+      recurringConferenceRoomBooking = recurringConferenceRoomBookingRepository.save(reservation);
+    } catch (RuntimeException e) {
+      conferenceRoomReservations.releaseRecurring(reservation);
+      bookingStateVersion.advance();
+      throw e;
+    }
+    bookingStateVersion.advance();
+    bookingMetrics.booked(1);
+    availabilityChangeFeed.bookedRecurring(recurringConferenceRoomBooking);
+    return recurringConferenceRoomBooking;
+  }
+
+  /**
+   * Only the recurring bookings overlapping the window are read, and only their occurrences within it are expanded.
+   */
+  private List<ConferenceRoomBookingSummary> findRecurringBookingOccurrences(LocalDateTime from, LocalDateTime to) {
+    if (to.isBefore(from) || from.toLocalDate().plusDays(MAX_RECURRENCE_DAYS).isBefore(to.toLocalDate())) {
+      throw invalid(ValidationFailure.DATE, "The window must end after it starts and span at most %d days".formatted(MAX_RECURRENCE_DAYS));
+    }
+    return recurringConferenceRoomBookingRepository.findRecurringConferenceRoomBookings(from.toLocalDate(), to.toLocalDate())
+        .stream()
+        .flatMap(recurringConferenceRoomBooking -> recurringConferenceRoomBooking.occurrences(from, to).stream())
+        .sorted(Comparator.comparing(ConferenceRoomBooking::getFromTimestamp).thenComparing(ConferenceRoomBooking::getConferenceRoom))
+        .map(ConferenceRoomBookingSummary::of)
+        .toList();
+  }
+
+  /**
+   * Rooms added after the catalog was loaded are picked up on the next load, so an import is only seen by the instance
+   * that ran it until then.
+   */
+  private ConferenceRoomImportResult importRooms(List<ConferenceRoom> conferenceRooms) {
+    validateConferenceRooms(conferenceRooms);
+    // Serialized, so a catalog loaded before a concurrent import committed never replaces one loaded after it.
+    conferenceRoomImportLock.lock();
+    try {
+      List<ConferenceRoom> imported = conferenceRoomRepository.insertNewConferenceRooms(conferenceRooms);
+      if (!imported.isEmpty()) {
+        conferenceRoomCatalog.load(conferenceRoomRepository.findAll());
+        bookingStateVersion.advance();
+      }
+      return new ConferenceRoomImportResult(imported.size(), conferenceRooms.size() - imported.size());
+    } finally {
+      conferenceRoomImportLock.unlock();
+    }
+  }
+
+  /**
+   * In a cluster, the rooms free in the shared database are found by the database itself, rather than by refreshing
+   * the local index with every conflicting booking of the window and checking each room of the catalog against it.
+   */
+  private List<ConferenceRoom> findAvailableConferenceRooms(LocalDateTime from, LocalDateTime to) {
     LocalDateTime now = LocalDateTime.now(clock);
     validateBookingDate(from.toLocalDate(), to.toLocalDate(), now);
     validateBookingTime(from, to, now);
-    List<String> conferenceRoomConflictNames = conferenceRoomBookingRepository.findConferenceRoomConflicts(from, to).stream().map(ConferenceRoomBooking::getConferenceRoom).toList();
+    MaintenanceSchedule schedule = maintenanceWindows.getSchedule();
+    if (clusterConferenceRoomReservations.isEnabled()) {
+      return withoutMaintenance(conferenceRoomRepository.findAvailableConferenceRooms(from, to, 1), schedule, from, to);
+    }
+    return conferenceRoomCatalog.getConferenceRooms().stream()
+        .filter(conferenceRoom -> !schedule.hasConferenceRoomWindows() || !schedule.isBlocked(conferenceRoom.getName(), from, to))
+        .filter(conferenceRoom -> conferenceRoomBookingIndex.isAvailable(conferenceRoom.getName(), from, to))
+        .toList();
+  }
 
-    return conferenceRoomConflictNames.isEmpty()
-        ? StreamSupport.stream(conferenceRoomRepository.findAll().spliterator(), false).toList()
-        : conferenceRoomRepository.findAllByNameNotIn(conferenceRoomConflictNames);
+  /**
+   * Read straight from the slot grid, which every booking marks as it is reserved, so neither the repository nor the
+   * bookings of the day are touched unless other instances book as well. Occurrences of recurring bookings are marked
+   * on top for the day only.
+   */
+  private DayAvailability findDayAvailability(LocalDate date) {
+    LocalDate day = date == null ? LocalDate.now(clock) : date;
+    clusterConferenceRoomReservations.refresh(day.atStartOfDay(), day.atTime(LocalTime.MAX));
+    ConferenceRoomSlotGrid slotGrid = conferenceRoomBookingIndex.getSlotGrid();
+    MaintenanceSchedule schedule = maintenanceWindows.getSchedule();
+    List<DayAvailability.ConferenceRoomDay> conferenceRoomDays = conferenceRoomCatalog.getConferenceRooms().stream()
+        .map(conferenceRoom -> new DayAvailability.ConferenceRoomDay(conferenceRoom,
+            conferenceRoomBookingIndex.getSlots(conferenceRoom.getName(), day),
+            schedule.getBlockedSlots(conferenceRoom.getName(), day, slotGrid.getSlotMinutes())))
+        .toList();
+    return new DayAvailability(day, slotGrid.getSlotMinutes(), slotGrid.getSlotsPerDay(), conferenceRoomDays);
   }
 
-  @Override
-  public List<ConferenceRoomBooking> getConferenceRoomBookings(LocalDateTime from, LocalDateTime to) {
-    return conferenceRoomBookingRepository.findConferenceRoomConflicts(from, to);
+  private List<AvailableSlot> findNextAvailableSlots(LocalDateTime from, Duration duration, int numberOfParticipants, int limit) {
+    validateParticipants(numberOfParticipants);
+    if (duration.isNegative() || duration.isZero() || duration.compareTo(Duration.ofDays(1)) >= 0) {
+      throw invalid(ValidationFailure.DURATION, "The duration must be positive and shorter than a day, but was " + duration);
+    }
+    if (limit < 1 || limit > MAX_SLOTS) {
+      throw invalid(ValidationFailure.PAGE_SIZE, "The number of slots must be between 1 and %d".formatted(MAX_SLOTS));
+    }
+    LocalDateTime now = LocalDateTime.now(clock);
+    LocalDateTime earliestFrom = from == null || from.isBefore(now) ? now : from;
+    validateBookingDate(earliestFrom.toLocalDate(), earliestFrom.toLocalDate(), now);
+    clusterConferenceRoomReservations.refresh(earliestFrom, earliestFrom.toLocalDate().atTime(LocalTime.MAX));
+    return FreeSlotSearch.find(conferenceRoomCatalog.getConferenceRooms(numberOfParticipants), conferenceRoomBookingIndex,
+        maintenanceWindows.getSchedule(), earliestFrom, duration, limit);
+  }
+
+  private List<ConferenceRoomBookingSummary> findConferenceRoomBookings(LocalDateTime from, LocalDateTime to, BookingCursor after,
+                                                                        int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw invalid(ValidationFailure.PAGE_SIZE, "The page size must be between 1 and %d".formatted(MAX_PAGE_SIZE));
+    }
+    Pageable pageable = PageRequest.ofSize(limit);
+    return after == null
+        ? conferenceRoomBookingRepository.findConferenceRoomConflicts(from, to, pageable)
+        : conferenceRoomBookingRepository.findConferenceRoomConflictsAfter(from, to, after.fromTimestamp(), after.id(), pageable);
+  }
+
+  private ConferenceRoomBooking reserve(Booking booking, List<ConferenceRoom> preferred) {
+    return conferenceRoomReservations.reserve(preferred, booking)
+        .or(() -> conferenceRoomReservations.reserve(getConferenceRooms(booking), booking))
+        .orElse(null);
+  }
+
+  /**
+   * The rooms large enough for the booking, without those under a maintenance window of their own at that time. In a
+   * cluster, only the rooms free in the shared database are tried, so a booking does not lock and check every room other
+   * instances have booked already.
+   */
+  private List<ConferenceRoom> getConferenceRooms(Booking booking) {
+    List<ConferenceRoom> conferenceRooms = clusterConferenceRoomReservations.isEnabled()
+        ? conferenceRoomRepository.findAvailableConferenceRooms(booking.from(), booking.to(), booking.numberOfParticipants())
+        : conferenceRoomCatalog.getConferenceRooms(booking.numberOfParticipants());
+    return withoutMaintenance(conferenceRooms, maintenanceWindows.getSchedule(), booking.from(), booking.to());
+  }
+
+  private static List<ConferenceRoom> withoutMaintenance(List<ConferenceRoom> conferenceRooms, MaintenanceSchedule schedule,
+                                                         LocalDateTime from, LocalDateTime to) {
+    if (!schedule.hasConferenceRoomWindows()) {
+      return conferenceRooms;
+    }
+    return conferenceRooms.stream()
+        .filter(conferenceRoom -> !schedule.isBlocked(conferenceRoom.getName(), from, to))
+        .toList();
+  }
+
+  private List<ConferenceRoom> getConferenceRooms(RecurringBooking recurringBooking) {
+    List<ConferenceRoom> conferenceRooms = conferenceRoomCatalog.getConferenceRooms(recurringBooking.numberOfParticipants());
+    MaintenanceSchedule schedule = maintenanceWindows.getSchedule();
+    if (!schedule.hasConferenceRoomWindows()) {
+      return conferenceRooms;
+    }
+    List<LocalDate> days = firstWeekOfOccurrences(recurringBooking);
+    return conferenceRooms.stream()
+        .filter(conferenceRoom -> days.stream().noneMatch(day -> schedule.isBlocked(conferenceRoom.getName(),
+            day.atTime(recurringBooking.from().toLocalTime()), day.atTime(recurringBooking.to().toLocalTime()))))
+        .toList();
+  }
+
+  /**
+   * The days of the first week the booking recurs on, which cover every week day it will ever occur on.
+   */
+  private static List<LocalDate> firstWeekOfOccurrences(RecurringBooking recurringBooking) {
+    LocalDate firstDay = recurringBooking.from().toLocalDate();
+    if (recurringBooking.recurrence() == Recurrence.WEEKLY) {
+      return List.of(firstDay);
+    }
+    LocalDate lastDay = recurringBooking.until().isBefore(firstDay.plusDays(6)) ? recurringBooking.until() : firstDay.plusDays(6);
+    return firstDay.datesUntil(lastDay.plusDays(1)).toList();
+  }
+
+  private void validateRecurringBooking(RecurringBooking recurringBooking) {
+    validateParticipants(recurringBooking.numberOfParticipants());
+    LocalDateTime now = LocalDateTime.now(clock);
+    LocalDate firstDay = recurringBooking.from().toLocalDate();
+    LocalDate lastAllowedDay = now.toLocalDate().plusDays(MAX_RECURRENCE_DAYS);
+    if (recurringBooking.recurrence() == null || recurringBooking.until() == null
+        || !recurringBooking.to().toLocalDate().equals(firstDay)
+        || recurringBooking.until().isBefore(firstDay) || recurringBooking.until().isAfter(lastAllowedDay)) {
+      throw invalid(ValidationFailure.DATE,
+          "Recurring bookings need a recurrence, must lie within a day and recur until a day between their first day and "
+              + lastAllowedDay);
+    }
+    validateBookingTime(recurringBooking.from(), recurringBooking.to(), now);
+    MaintenanceSchedule schedule = maintenanceWindows.getSchedule();
+    for (LocalDate day : firstWeekOfOccurrences(recurringBooking)) {
+      LocalDateTime from = day.atTime(recurringBooking.from().toLocalTime());
+      LocalDateTime to = day.atTime(recurringBooking.to().toLocalTime());
+      if (schedule.isBlocked(from, to)) {
+        throw invalid(ValidationFailure.MAINTENANCE,
+            "Booking recurs within a maintenance window on %s, in this case: %s. The maintenance windows are: %s"
+                .formatted(day.getDayOfWeek(), schedule.findBlockingWindow(from, to).orElse(null), schedule.getMaintenanceWindows()));
+      }
+    }
   }
 
   private void validateBooking(Booking booking) {
@@ -68,48 +459,62 @@ public class BookingServiceImpl implements BookingService {
     validateBookingTime(booking, now);
   }
 
-  private void validateParticipants(int numberOfParticipants) {
-    List<Integer> maxCapacities = StreamSupport.stream(conferenceRoomRepository.findAll().spliterator(), false)
-        .map(ConferenceRoom::getMaxCapacity)
-        .toList();
-    if (maxCapacities.isEmpty()) {
-      throw new IllegalStateException("There are no available conference rooms available");
+  private void validateConferenceRooms(List<ConferenceRoom> conferenceRooms) {
+    if (conferenceRooms.isEmpty() || conferenceRooms.size() > MAX_IMPORT_SIZE) {
+      throw invalid(ValidationFailure.CONFERENCE_ROOM, "An import must contain between 1 and %d conference rooms".formatted(MAX_IMPORT_SIZE));
+    }
+    Set<String> names = new HashSet<>();
+    for (ConferenceRoom conferenceRoom : conferenceRooms) {
+      String name = conferenceRoom.getName();
+      if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+        throw invalid(ValidationFailure.CONFERENCE_ROOM, "A conference room name must have between 1 and %d characters".formatted(MAX_NAME_LENGTH));
+      }
+      if (conferenceRoom.getMaxCapacity() < 1) {
+        throw invalid(ValidationFailure.CONFERENCE_ROOM, "The conference room %s must seat at least 1 participant".formatted(name));
+      }
+      if (!names.add(name)) {
+        throw invalid(ValidationFailure.CONFERENCE_ROOM, "The conference room %s is listed more than once".formatted(name));
+      }
     }
-    Integer maxCapacity = Collections.max(maxCapacities);
+  }
+
+  private void validateParticipants(int numberOfParticipants) {
+    int maxCapacity = conferenceRoomCatalog.getMaxCapacity()
+        .orElseThrow(() -> new IllegalStateException("There are no available conference rooms available"));
     if (numberOfParticipants < 1 || numberOfParticipants > maxCapacity) {
-      throw new IllegalArgumentException("Number of participants must be greater than or equal end 1 and be less than the max capacity of the rooms which is " + maxCapacity);
+      throw invalid(ValidationFailure.PARTICIPANTS, "Number of participants must be greater than or equal end 1 and be less than the max capacity of the rooms which is " + maxCapacity);
     }
   }
 
-  private static void validateBookingDate(Booking booking, LocalDateTime now) {
+  private void validateBookingDate(Booking booking, LocalDateTime now) {
     validateBookingDate(booking.from().toLocalDate(), booking.to().toLocalDate(), now);
   }
 
-  private static void validateBookingDate(LocalDate from, LocalDate to, LocalDateTime now) {
+  private void validateBookingDate(LocalDate from, LocalDate to, LocalDateTime now) {
     if (!from.equals(now.toLocalDate()) || !to.equals(now.toLocalDate())) {
-      throw new IllegalArgumentException("Bookings are only allowed with the current date: " + now.toLocalDate());
+      throw invalid(ValidationFailure.DATE, "Bookings are only allowed with the current date: " + now.toLocalDate());
     }
   }
 
-  private static void validateBookingTime(Booking booking, LocalDateTime now) {
+  private void validateBookingTime(Booking booking, LocalDateTime now) {
     validateBookingTime(booking.from(), booking.to(), now);
   }
 
-  private static void validateBookingTime(LocalDateTime from, LocalDateTime to, LocalDateTime now) {
+  private void validateBookingTime(LocalDateTime from, LocalDateTime to, LocalDateTime now) {
     if ((!from.isAfter(now) && !from.equals(now)) || !to.isAfter(from)) {
-      throw new IllegalArgumentException(
+      throw invalid(ValidationFailure.TIME,
           "Bookings are not allowed end be in the past, current timestamp %s, times provided start: %s, end: %s".formatted(now, from, to));
     }
-    MAINTENANCE_TIMES.forEach(maintenanceTime -> {
-      if (to.toLocalTime().isBefore(maintenanceTime.start()) || to.toLocalTime().equals(maintenanceTime.start())) {
-        return;
-      }
-      if (from.toLocalTime().isAfter(maintenanceTime.end()) || from.toLocalTime().equals(maintenanceTime.end())) {
-        return;
-      }
-      throw new IllegalArgumentException(
+    MaintenanceSchedule schedule = maintenanceWindows.getSchedule();
+    if (schedule.isBlocked(from, to)) {
+      throw invalid(ValidationFailure.MAINTENANCE,
           "Booking is within a maintenance window for the room and can therefore not be booked, in this case: %s. The maintenance windows are: %s"
-              .formatted(maintenanceTime, MAINTENANCE_TIMES));
-    });
+              .formatted(schedule.findBlockingWindow(from, to).orElse(null), schedule.getMaintenanceWindows()));
+    }
+  }
+
+  private IllegalArgumentException invalid(ValidationFailure validationFailure, String message) {
+    bookingMetrics.validationFailed(validationFailure);
+    return new IllegalArgumentException(message);
   }
 }
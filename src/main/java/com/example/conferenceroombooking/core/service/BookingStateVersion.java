@@ -0,0 +1,26 @@
+package com.example.conferenceroombooking.core.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of everything the availability and the bookings are answered from. Advanced after every change has become
+ * visible, so a response computed at a version never misses a change made before that version. Starts at a random
+ * value, as the versions are handed out as ETags: a restarted or another instance must not answer an ETag of a state
+ * it has never seen as current.
+ */
+@Component
+public class BookingStateVersion {
+
+  private final AtomicLong version = new AtomicLong(ThreadLocalRandom.current().nextLong());
+
+  public long get() {
+    return version.get();
+  }
+
+  public void advance() {
+    version.incrementAndGet();
+  }
+}
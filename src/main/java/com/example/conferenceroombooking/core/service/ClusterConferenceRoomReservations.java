@@ -0,0 +1,112 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomLocks;
+import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Books conference rooms when several instances of the application share one database. Every attempt is a transaction
+ * of its own that locks a single room row, checks the stored bookings of the room and saves the booking, so no
+ * transaction ever waits for a second lock while holding one. Rooms locked by another instance are skipped in favour
+ * of the next candidate and only waited for once every other candidate has been tried, like
+ * {@link ConferenceRoomReservations} does within one instance. The local {@link ConferenceRoomBookingIndex} holds a
+ * subset of the bookings only, so it can rule rooms out but never in. Bookings are added to it through
+ * {@link ConferenceRoomReservations#add}, under the same room locks as local reservations.
+ */
+public class ClusterConferenceRoomReservations {
+
+  private final boolean enabled;
+  private final ConferenceRoomLocks conferenceRoomLocks;
+  private final ConferenceRoomBookingRepository conferenceRoomBookingRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ConferenceRoomBookingIndex conferenceRoomBookingIndex;
+  private final ConferenceRoomReservations conferenceRoomReservations;
+
+  public ClusterConferenceRoomReservations(boolean enabled, ConferenceRoomLocks conferenceRoomLocks,
+                                           ConferenceRoomBookingRepository conferenceRoomBookingRepository,
+                                           TransactionTemplate transactionTemplate,
+                                           ConferenceRoomBookingIndex conferenceRoomBookingIndex,
+                                           ConferenceRoomReservations conferenceRoomReservations) {
+    this.enabled = enabled;
+    this.conferenceRoomLocks = conferenceRoomLocks;
+    this.conferenceRoomBookingRepository = conferenceRoomBookingRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.conferenceRoomBookingIndex = conferenceRoomBookingIndex;
+    this.conferenceRoomReservations = conferenceRoomReservations;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Books the first candidate that is free in the shared database and adds the stored booking to the local index.
+   */
+  public Optional<ConferenceRoomBooking> book(List<ConferenceRoom> candidates, Booking booking) {
+    List<ConferenceRoom> contended = new ArrayList<>();
+    for (ConferenceRoom conferenceRoom : candidates) {
+      if (!conferenceRoomBookingIndex.isAvailable(conferenceRoom.getName(), booking.from(), booking.to())) {
+        continue;
+      }
+      Optional<ConferenceRoomBooking> conferenceRoomBooking = Optional.ofNullable(transactionTemplate.execute(status -> {
+        if (!conferenceRoomLocks.tryLock(conferenceRoom.getId())) {
+          contended.add(conferenceRoom);
+          return null;
+        }
+        return save(conferenceRoom, booking);
+      }));
+      if (conferenceRoomBooking.isPresent()) {
+        return indexed(conferenceRoomBooking);
+      }
+    }
+    for (ConferenceRoom conferenceRoom : contended) {
+      Optional<ConferenceRoomBooking> conferenceRoomBooking = Optional.ofNullable(transactionTemplate.execute(status -> {
+        conferenceRoomLocks.lock(conferenceRoom.getId());
+        return save(conferenceRoom, booking);
+      }));
+      if (conferenceRoomBooking.isPresent()) {
+        return indexed(conferenceRoomBooking);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Adds the bookings other instances stored for the window to the local index, so it can answer for the window.
+   */
+  public void refresh(LocalDateTime from, LocalDateTime to) {
+    if (enabled) {
+      conferenceRoomBookingRepository.findConferenceRoomBookings(from, to).forEach(conferenceRoomReservations::add);
+    }
+  }
+
+  /**
+   * Only called once the transaction committed, as other requests of this instance trust the index.
+   */
+  private Optional<ConferenceRoomBooking> indexed(Optional<ConferenceRoomBooking> conferenceRoomBooking) {
+    conferenceRoomBooking.ifPresent(conferenceRoomReservations::add);
+    return conferenceRoomBooking;
+  }
+
+  private ConferenceRoomBooking save(ConferenceRoom conferenceRoom, Booking booking) {
+    if (conferenceRoomLocks.isBooked(conferenceRoom.getId(), booking.from(), booking.to())) {
+      return null;
+    }
+    ConferenceRoomBooking conferenceRoomBooking = conferenceRoomBookingRepository.save(ConferenceRoomBooking.builder()
+        .fromTimestamp(booking.from())
+        .toTimestamp(booking.to())
+        .numberOfParticipants(booking.numberOfParticipants())
+        .conferenceRoomId(conferenceRoom.getId())
+        .conferenceRoom(conferenceRoom.getName())
+        .build());
+    return conferenceRoomBooking;
+  }
+}
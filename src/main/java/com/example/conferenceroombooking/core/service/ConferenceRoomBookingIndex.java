@@ -0,0 +1,169 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory index of the bookings per conference room, keyed by their start timestamp. The bookings of a room never
+ * overlap, so the only candidate for a conflict is the booking with the latest start at or before the requested end.
+ * In {@link AvailabilityMode#SLOT_GRID} mode the {@link ConferenceRoomSlotGrid} is consulted first and the exact
+ * lookup is only needed when a slot of the requested window is marked. Recurring bookings are kept apart in a
+ * {@link RecurringBookingIndex}, as their occurrences are neither stored nor marked in the slot grid. Loading builds
+ * the bookings and their slot grid, or the recurring bookings, off to the side and swaps them in as a whole, so
+ * readers never observe a partially loaded index.
+ */
+public class ConferenceRoomBookingIndex {
+
+  private volatile Bookings bookings;
+  private volatile RecurringBookingIndex recurringBookings = new RecurringBookingIndex();
+  private final AvailabilityMode availabilityMode;
+
+  public ConferenceRoomBookingIndex() {
+    this(new ConferenceRoomSlotGrid(15), AvailabilityMode.INDEX);
+  }
+
+  public ConferenceRoomBookingIndex(ConferenceRoomSlotGrid slotGrid, AvailabilityMode availabilityMode) {
+    this.bookings = new Bookings(slotGrid);
+    this.availabilityMode = availabilityMode;
+  }
+
+  public void load(Iterable<ConferenceRoomBooking> conferenceRoomBookings) {
+    Bookings loaded = new Bookings(new ConferenceRoomSlotGrid(bookings.slotGrid().getSlotMinutes()));
+    conferenceRoomBookings.forEach(loaded::add);
+    bookings = loaded;
+  }
+
+  public void add(ConferenceRoomBooking conferenceRoomBooking) {
+    bookings.add(conferenceRoomBooking);
+  }
+
+  public void remove(ConferenceRoomBooking conferenceRoomBooking) {
+    Bookings current = bookings;
+    NavigableMap<LocalDateTime, ConferenceRoomBooking> conferenceRoomBookings =
+        current.byConferenceRoom().get(conferenceRoomBooking.getConferenceRoom());
+    if (conferenceRoomBookings == null
+        || !conferenceRoomBookings.remove(conferenceRoomBooking.getFromTimestamp(), conferenceRoomBooking)) {
+      return;
+    }
+    current.size().decrementAndGet();
+    LocalDate lastDay = conferenceRoomBooking.getToTimestamp().toLocalDate();
+    for (LocalDate day = conferenceRoomBooking.getFromTimestamp().toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+      LocalDateTime startOfDay = day.atStartOfDay();
+      LocalDateTime firstKey = conferenceRoomBookings.floorKey(startOfDay);
+      current.slotGrid().rebuild(conferenceRoomBooking.getConferenceRoom(), day, conferenceRoomBookings
+          .subMap(firstKey == null ? startOfDay : firstKey, true, startOfDay.plusDays(1), false)
+          .values());
+    }
+  }
+
+  public void loadRecurring(Iterable<RecurringConferenceRoomBooking> recurringConferenceRoomBookings) {
+    RecurringBookingIndex loaded = new RecurringBookingIndex();
+    recurringConferenceRoomBookings.forEach(loaded::add);
+    recurringBookings = loaded;
+  }
+
+  public void addRecurring(RecurringConferenceRoomBooking recurringConferenceRoomBooking) {
+    recurringBookings.add(recurringConferenceRoomBooking);
+  }
+
+  public void removeRecurring(RecurringConferenceRoomBooking recurringConferenceRoomBooking) {
+    recurringBookings.remove(recurringConferenceRoomBooking);
+  }
+
+  public boolean isAvailable(String conferenceRoom, LocalDateTime from, LocalDateTime to) {
+    if (recurringBookings.conflict(conferenceRoom, from, to) != null) {
+      return false;
+    }
+    Bookings current = bookings;
+    if (availabilityMode == AvailabilityMode.SLOT_GRID && current.slotGrid().isFree(conferenceRoom, from, to)) {
+      return true;
+    }
+    return current.conflict(conferenceRoom, from, to) == null;
+  }
+
+  /**
+   * Whether no occurrence of the recurring booking overlaps a booking or an occurrence of another recurring booking of
+   * its room. Only the bookings between its first and last day are visited.
+   */
+  public boolean isAvailable(RecurringConferenceRoomBooking recurringConferenceRoomBooking) {
+    if (recurringBookings.conflicts(recurringConferenceRoomBooking)) {
+      return false;
+    }
+    NavigableMap<LocalDateTime, ConferenceRoomBooking> conferenceRoomBookings =
+        bookings.byConferenceRoom().get(recurringConferenceRoomBooking.getConferenceRoom());
+    return conferenceRoomBookings == null || conferenceRoomBookings
+        .subMap(recurringConferenceRoomBooking.getFirstDay().atStartOfDay(), true,
+            recurringConferenceRoomBooking.getLastDay().plusDays(1).atStartOfDay(), false)
+        .values().stream()
+        .noneMatch(conferenceRoomBooking -> recurringConferenceRoomBooking.overlaps(
+            conferenceRoomBooking.getFromTimestamp().toLocalDate(), conferenceRoomBooking.getFromTimestamp(),
+            conferenceRoomBooking.getToTimestamp()));
+  }
+
+  /**
+   * The booking or occurrence of the room overlapping the window that ends last, as there is no other candidate for a
+   * conflict.
+   */
+  public Optional<ConferenceRoomBooking> findConflict(String conferenceRoom, LocalDateTime from, LocalDateTime to) {
+    ConferenceRoomBooking conflict = bookings.conflict(conferenceRoom, from, to);
+    ConferenceRoomBooking occurrence = recurringBookings.conflict(conferenceRoom, from, to);
+    return Optional.ofNullable(conflict == null
+        || occurrence != null && occurrence.getToTimestamp().isAfter(conflict.getToTimestamp()) ? occurrence : conflict);
+  }
+
+  /**
+   * The booked slots of the room on the day, including the occurrences of recurring bookings.
+   */
+  public long[] getSlots(String conferenceRoom, LocalDate day) {
+    List<ConferenceRoomBooking> occurrences = recurringBookings.occurrences(conferenceRoom, day);
+    ConferenceRoomSlotGrid slotGrid = bookings.slotGrid();
+    return occurrences.isEmpty() ? slotGrid.getSlots(conferenceRoom, day) : slotGrid.getSlots(conferenceRoom, day, occurrences);
+  }
+
+  public ConferenceRoomSlotGrid getSlotGrid() {
+    return bookings.slotGrid();
+  }
+
+  public int size() {
+    return bookings.size().get();
+  }
+
+  private record Bookings(Map<String, NavigableMap<LocalDateTime, ConferenceRoomBooking>> byConferenceRoom,
+                          ConferenceRoomSlotGrid slotGrid, AtomicInteger size) {
+
+    Bookings(ConferenceRoomSlotGrid slotGrid) {
+      this(new ConcurrentHashMap<>(), slotGrid, new AtomicInteger());
+    }
+
+    void add(ConferenceRoomBooking conferenceRoomBooking) {
+      ConferenceRoomBooking replaced = byConferenceRoom
+          .computeIfAbsent(conferenceRoomBooking.getConferenceRoom(), conferenceRoom -> new ConcurrentSkipListMap<>())
+          .put(conferenceRoomBooking.getFromTimestamp(), conferenceRoomBooking);
+      if (replaced == null) {
+        size.incrementAndGet();
+      }
+      slotGrid.mark(conferenceRoomBooking);
+    }
+
+    ConferenceRoomBooking conflict(String conferenceRoom, LocalDateTime from, LocalDateTime to) {
+      NavigableMap<LocalDateTime, ConferenceRoomBooking> conferenceRoomBookings = byConferenceRoom.get(conferenceRoom);
+      if (conferenceRoomBookings == null) {
+        return null;
+      }
+      Map.Entry<LocalDateTime, ConferenceRoomBooking> latestStartingBefore = conferenceRoomBookings.floorEntry(to);
+      return latestStartingBefore == null || latestStartingBefore.getValue().getToTimestamp().isBefore(from)
+          ? null
+          : latestStartingBefore.getValue();
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores single bookings. With group commit, bookings that are already reserved in the index are queued and a writer
+ * thread inserts whatever has queued up, up to {@code maxBatchSize}, as one JDBC batch in one transaction. It waits
+ * at most {@code maxWait} for a batch to fill. Every caller blocks until the transaction holding its booking has
+ * committed, so a booking is durable when it is reported as booked. If a batch fails, its bookings are retried one
+ * transaction each, so only the offending booking fails.
+ */
+public class ConferenceRoomBookingWriter implements AutoCloseable {
+
+  private final ConferenceRoomBookingRepository conferenceRoomBookingRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxBatchSize;
+  private final long maxWaitNanos;
+  private final BlockingQueue<PendingBooking> queue = new LinkedBlockingQueue<>();
+  private final DistributionSummary batchSizes;
+  private final Thread writer;
+  private volatile boolean running = true;
+
+  /**
+   * Saves every booking in a transaction of its own.
+   */
+  public ConferenceRoomBookingWriter(ConferenceRoomBookingRepository conferenceRoomBookingRepository) {
+    this.conferenceRoomBookingRepository = conferenceRoomBookingRepository;
+    this.transactionTemplate = null;
+    this.maxBatchSize = 1;
+    this.maxWaitNanos = 0;
+    this.batchSizes = null;
+    this.writer = null;
+  }
+
+  public ConferenceRoomBookingWriter(ConferenceRoomBookingRepository conferenceRoomBookingRepository,
+                                     TransactionTemplate transactionTemplate, int maxBatchSize, Duration maxWait,
+                                     MeterRegistry meterRegistry) {
+    if (maxBatchSize < 1 || maxWait.isNegative()) {
+      throw new IllegalArgumentException("Group commit needs a batch size of at least 1 and a wait that is not negative");
+    }
+    this.conferenceRoomBookingRepository = conferenceRoomBookingRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.maxBatchSize = maxBatchSize;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.batchSizes = DistributionSummary.builder("booking.group.commit.size")
+        .description("Bookings stored per group commit")
+        .register(meterRegistry);
+    this.writer = Thread.ofPlatform().name("booking-group-commit").daemon().start(this::run);
+  }
+
+  /**
+   * Stores the booking and returns once it is committed. Rethrows whatever storing this booking failed with.
+   */
+  public ConferenceRoomBooking save(ConferenceRoomBooking conferenceRoomBooking) {
+    if (writer == null) {
+      return conferenceRoomBookingRepository.save(conferenceRoomBooking);
+    }
+    if (!running) {
+      throw new IllegalStateException("The booking writer is shut down");
+    }
+    PendingBooking pendingBooking = new PendingBooking(conferenceRoomBooking, new CompletableFuture<>());
+    queue.add(pendingBooking);
+    if (!running && queue.remove(pendingBooking)) {
+      throw new IllegalStateException("The booking writer is shut down");
+    }
+    try {
+      return pendingBooking.stored().join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    if (writer == null) {
+      return;
+    }
+    running = false;
+    writer.interrupt();
+    writer.join();
+    List<PendingBooking> abandoned = new ArrayList<>();
+    queue.drainTo(abandoned);
+    abandoned.forEach(pendingBooking ->
+        pendingBooking.stored().completeExceptionally(new IllegalStateException("The booking writer is shut down")));
+  }
+
+  private void run() {
+    List<PendingBooking> batch = new ArrayList<>(maxBatchSize);
+    while (running) {
+      try {
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + maxWaitNanos;
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        while (batch.size() < maxBatchSize) {
+          PendingBooking next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+          queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+      if (!batch.isEmpty()) {
+        flush(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<PendingBooking> batch) {
+    batchSizes.record(batch.size());
+    try {
+      transactionTemplate.execute(status ->
+          conferenceRoomBookingRepository.saveAll(batch.stream().map(PendingBooking::conferenceRoomBooking).toList()));
+      batch.forEach(pendingBooking -> pendingBooking.stored().complete(pendingBooking.conferenceRoomBooking()));
+    } catch (RuntimeException e) {
+      if (batch.size() == 1) {
+        batch.get(0).stored().completeExceptionally(e);
+        return;
+      }
+      batch.forEach(this::flushAlone);
+    }
+  }
+
+  private void flushAlone(PendingBooking pendingBooking) {
+    // The rolled back batch may have handed out an id already.
+    pendingBooking.conferenceRoomBooking().setId(null);
+    try {
+      pendingBooking.stored().complete(transactionTemplate.execute(status ->
+          conferenceRoomBookingRepository.save(pendingBooking.conferenceRoomBooking())));
+    } catch (RuntimeException e) {
+      pendingBooking.stored().completeExceptionally(e);
+    }
+  }
+
+  private record PendingBooking(ConferenceRoomBooking conferenceRoomBooking, CompletableFuture<ConferenceRoomBooking> stored) {
+  }
+}
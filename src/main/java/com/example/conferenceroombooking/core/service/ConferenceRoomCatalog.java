@@ -0,0 +1,63 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable, capacity ordered snapshot of the conference rooms. The snapshot is swapped as a whole on every load, so
+ * readers never observe a partially refreshed catalog.
+ */
+@Component
+public class ConferenceRoomCatalog {
+
+  private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+  public void load(Iterable<ConferenceRoom> conferenceRooms) {
+    snapshot = Snapshot.of(StreamSupport.stream(conferenceRooms.spliterator(), false)
+        .sorted(Comparator.comparingInt(ConferenceRoom::getMaxCapacity))
+        .toList());
+  }
+
+  public List<ConferenceRoom> getConferenceRooms() {
+    return snapshot.conferenceRooms();
+  }
+
+  public List<ConferenceRoom> getConferenceRooms(int minCapacity) {
+    Snapshot current = snapshot;
+    Map.Entry<Integer, Integer> ceiling = current.firstIndexByCapacity().ceilingEntry(minCapacity);
+    return ceiling == null
+        ? List.of()
+        : current.conferenceRooms().subList(ceiling.getValue(), current.conferenceRooms().size());
+  }
+
+  public OptionalInt getMaxCapacity() {
+    Snapshot current = snapshot;
+    return current.conferenceRooms().isEmpty()
+        ? OptionalInt.empty()
+        : OptionalInt.of(current.firstIndexByCapacity().lastKey());
+  }
+
+  public int size() {
+    return snapshot.conferenceRooms().size();
+  }
+
+  private record Snapshot(List<ConferenceRoom> conferenceRooms, NavigableMap<Integer, Integer> firstIndexByCapacity) {
+
+    private static Snapshot of(List<ConferenceRoom> capacityOrderedConferenceRooms) {
+      NavigableMap<Integer, Integer> firstIndexByCapacity = new TreeMap<>();
+      for (int i = capacityOrderedConferenceRooms.size() - 1; i >= 0; i--) {
+        firstIndexByCapacity.put(capacityOrderedConferenceRooms.get(i).getMaxCapacity(), i);
+      }
+      return new Snapshot(capacityOrderedConferenceRooms, Collections.unmodifiableNavigableMap(firstIndexByCapacity));
+    }
+  }
+}
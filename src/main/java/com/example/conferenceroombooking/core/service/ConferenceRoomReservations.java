@@ -0,0 +1,155 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.RecurringBooking;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reserves a conference room in the {@link ConferenceRoomBookingIndex} while holding a lock that is striped by room,
+ * so only requests contending for the same room are serialized. Candidates are expected in order of preference and
+ * rooms that are already booked are skipped without taking their lock. A room whose lock is held by another request is
+ * skipped in favour of the next candidate and only waited for once every uncontended candidate has been tried.
+ */
+@Component
+public class ConferenceRoomReservations {
+
+  private static final int STRIPES = 256;
+
+  private final ConferenceRoomBookingIndex conferenceRoomBookingIndex;
+  private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+  public ConferenceRoomReservations(ConferenceRoomBookingIndex conferenceRoomBookingIndex) {
+    this.conferenceRoomBookingIndex = conferenceRoomBookingIndex;
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  public Optional<ConferenceRoomBooking> reserve(List<ConferenceRoom> candidates, Booking booking) {
+    List<ConferenceRoom> contended = new ArrayList<>();
+    for (ConferenceRoom conferenceRoom : candidates) {
+      if (!conferenceRoomBookingIndex.isAvailable(conferenceRoom.getName(), booking.from(), booking.to())) {
+        continue;
+      }
+      ReentrantLock lock = lockFor(conferenceRoom.getName());
+      if (!lock.tryLock()) {
+        contended.add(conferenceRoom);
+        continue;
+      }
+      try {
+        Optional<ConferenceRoomBooking> reservation = tryReserve(conferenceRoom, booking);
+        if (reservation.isPresent()) {
+          return reservation;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    for (ConferenceRoom conferenceRoom : contended) {
+      ReentrantLock lock = lockFor(conferenceRoom.getName());
+      lock.lock();
+      try {
+        Optional<ConferenceRoomBooking> reservation = tryReserve(conferenceRoom, booking);
+        if (reservation.isPresent()) {
+          return reservation;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Reserves the first candidate that none of the bookings or recurring bookings of the room get in the way of. Recurring
+   * bookings are rare, so candidates are simply taken in turn.
+   */
+  public Optional<RecurringConferenceRoomBooking> reserveRecurring(List<ConferenceRoom> candidates,
+                                                                   RecurringBooking recurringBooking) {
+    for (ConferenceRoom conferenceRoom : candidates) {
+      RecurringConferenceRoomBooking recurringConferenceRoomBooking = RecurringConferenceRoomBooking.builder()
+          .startTime(recurringBooking.from().toLocalTime())
+          .endTime(recurringBooking.to().toLocalTime())
+          .firstDay(recurringBooking.from().toLocalDate())
+          .lastDay(recurringBooking.until())
+          .recurrence(recurringBooking.recurrence())
+          .numberOfParticipants(recurringBooking.numberOfParticipants())
+          .conferenceRoomId(conferenceRoom.getId())
+          .conferenceRoom(conferenceRoom.getName())
+          .build();
+      ReentrantLock lock = lockFor(conferenceRoom.getName());
+      lock.lock();
+      try {
+        if (conferenceRoomBookingIndex.isAvailable(recurringConferenceRoomBooking)) {
+          conferenceRoomBookingIndex.addRecurring(recurringConferenceRoomBooking);
+          return Optional.of(recurringConferenceRoomBooking);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return Optional.empty();
+  }
+
+  public void releaseRecurring(RecurringConferenceRoomBooking recurringConferenceRoomBooking) {
+    ReentrantLock lock = lockFor(recurringConferenceRoomBooking.getConferenceRoom());
+    lock.lock();
+    try {
+      conferenceRoomBookingIndex.removeRecurring(recurringConferenceRoomBooking);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Adds a booking that was reserved elsewhere, such as by another instance, under the lock of its room, as the slot
+   * grid of the room is only ever changed by the holder of that lock.
+   */
+  public void add(ConferenceRoomBooking conferenceRoomBooking) {
+    ReentrantLock lock = lockFor(conferenceRoomBooking.getConferenceRoom());
+    lock.lock();
+    try {
+      conferenceRoomBookingIndex.add(conferenceRoomBooking);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void release(ConferenceRoomBooking conferenceRoomBooking) {
+    ReentrantLock lock = lockFor(conferenceRoomBooking.getConferenceRoom());
+    lock.lock();
+    try {
+      conferenceRoomBookingIndex.remove(conferenceRoomBooking);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Optional<ConferenceRoomBooking> tryReserve(ConferenceRoom conferenceRoom, Booking booking) {
+    if (!conferenceRoomBookingIndex.isAvailable(conferenceRoom.getName(), booking.from(), booking.to())) {
+      return Optional.empty();
+    }
+    ConferenceRoomBooking conferenceRoomBooking = ConferenceRoomBooking.builder()
+        .fromTimestamp(booking.from())
+        .toTimestamp(booking.to())
+        .numberOfParticipants(booking.numberOfParticipants())
+        .conferenceRoomId(conferenceRoom.getId())
+        .conferenceRoom(conferenceRoom.getName())
+        .build();
+    conferenceRoomBookingIndex.add(conferenceRoomBooking);
+    return Optional.of(conferenceRoomBooking);
+  }
+
+  private ReentrantLock lockFor(String conferenceRoom) {
+    int hash = conferenceRoom.hashCode();
+    return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+  }
+}
@@ -0,0 +1,147 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bitmap of the booked slots per conference room and day. A slot is marked when any instant of a booking falls into it,
+ * so a window whose slots are all clear is guaranteed to be free, while a marked slot only means the room might be
+ * booked and has to be confirmed against the exact bookings.
+ */
+public class ConferenceRoomSlotGrid {
+
+  private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+  private final int slotSeconds;
+  private final int slotsPerDay;
+  private final Map<String, Map<LocalDate, long[]>> slotsByConferenceRoom = new ConcurrentHashMap<>();
+
+  public ConferenceRoomSlotGrid(int slotMinutes) {
+    if (slotMinutes < 1 || SECONDS_PER_DAY % (slotMinutes * 60) != 0) {
+      throw new IllegalArgumentException("Slot length must divide a day evenly, but was %d minutes".formatted(slotMinutes));
+    }
+    this.slotSeconds = slotMinutes * 60;
+    this.slotsPerDay = SECONDS_PER_DAY / slotSeconds;
+  }
+
+  public int getSlotMinutes() {
+    return slotSeconds / 60;
+  }
+
+  public int getSlotsPerDay() {
+    return slotsPerDay;
+  }
+
+  public void mark(ConferenceRoomBooking conferenceRoomBooking) {
+    Map<LocalDate, long[]> slotsByDay = slotsByConferenceRoom
+        .computeIfAbsent(conferenceRoomBooking.getConferenceRoom(), conferenceRoom -> new ConcurrentHashMap<>());
+    forEachDay(conferenceRoomBooking.getFromTimestamp(), conferenceRoomBooking.getToTimestamp(), (day, firstSlot, lastSlot) ->
+        setBits(slotsByDay.computeIfAbsent(day, d -> new long[words()]), firstSlot, lastSlot));
+  }
+
+  public void rebuild(String conferenceRoom, LocalDate day, Iterable<ConferenceRoomBooking> conferenceRoomBookings) {
+    long[] slots = new long[words()];
+    conferenceRoomBookings.forEach(conferenceRoomBooking ->
+        forEachDay(conferenceRoomBooking.getFromTimestamp(), conferenceRoomBooking.getToTimestamp(), (bookedDay, firstSlot, lastSlot) -> {
+          if (bookedDay.equals(day)) {
+            setBits(slots, firstSlot, lastSlot);
+          }
+        }));
+    slotsByConferenceRoom.computeIfAbsent(conferenceRoom, c -> new ConcurrentHashMap<>()).put(day, slots);
+  }
+
+  public boolean isFree(String conferenceRoom, LocalDateTime from, LocalDateTime to) {
+    Map<LocalDate, long[]> slotsByDay = slotsByConferenceRoom.get(conferenceRoom);
+    if (slotsByDay == null) {
+      return true;
+    }
+    LocalDate day = from.toLocalDate();
+    LocalDate lastDay = to.toLocalDate();
+    int firstSlot = slotOf(from.toLocalTime());
+    while (true) {
+      boolean last = day.equals(lastDay);
+      long[] slots = slotsByDay.get(day);
+      if (slots != null && anyBitSet(slots, firstSlot, last ? slotOf(to.toLocalTime()) : slotsPerDay - 1)) {
+        return false;
+      }
+      if (last || day.isAfter(lastDay)) {
+        return true;
+      }
+      day = day.plusDays(1);
+      firstSlot = 0;
+    }
+  }
+
+  public long[] getSlots(String conferenceRoom, LocalDate day) {
+    Map<LocalDate, long[]> slotsByDay = slotsByConferenceRoom.get(conferenceRoom);
+    long[] slots = slotsByDay == null ? null : slotsByDay.get(day);
+    return slots == null ? new long[words()] : slots.clone();
+  }
+
+  /**
+   * The slots of the day with the given bookings of the room marked in addition, without storing them in the grid.
+   */
+  public long[] getSlots(String conferenceRoom, LocalDate day, Iterable<ConferenceRoomBooking> additionalBookings) {
+    long[] slots = getSlots(conferenceRoom, day);
+    additionalBookings.forEach(conferenceRoomBooking ->
+        forEachDay(conferenceRoomBooking.getFromTimestamp(), conferenceRoomBooking.getToTimestamp(), (bookedDay, firstSlot, lastSlot) -> {
+          if (bookedDay.equals(day)) {
+            setBits(slots, firstSlot, lastSlot);
+          }
+        }));
+    return slots;
+  }
+
+  private int words() {
+    return (slotsPerDay + 63) >>> 6;
+  }
+
+  private int slotOf(LocalTime time) {
+    return time.toSecondOfDay() / slotSeconds;
+  }
+
+  private void forEachDay(LocalDateTime from, LocalDateTime to, SlotRangeConsumer consumer) {
+    LocalDate day = from.toLocalDate();
+    LocalDate lastDay = to.toLocalDate();
+    int firstSlot = slotOf(from.toLocalTime());
+    while (day.isBefore(lastDay)) {
+      consumer.accept(day, firstSlot, slotsPerDay - 1);
+      day = day.plusDays(1);
+      firstSlot = 0;
+    }
+    if (day.equals(lastDay)) {
+      consumer.accept(day, firstSlot, slotOf(to.toLocalTime()));
+    }
+  }
+
+  private static void setBits(long[] slots, int firstSlot, int lastSlot) {
+    for (int word = firstSlot >>> 6; word <= lastSlot >>> 6; word++) {
+      slots[word] |= mask(word, firstSlot, lastSlot);
+    }
+  }
+
+  private static boolean anyBitSet(long[] slots, int firstSlot, int lastSlot) {
+    for (int word = firstSlot >>> 6; word <= lastSlot >>> 6; word++) {
+      if ((slots[word] & mask(word, firstSlot, lastSlot)) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long mask(int word, int firstSlot, int lastSlot) {
+    int from = Math.max(firstSlot - (word << 6), 0);
+    int to = Math.min(lastSlot - (word << 6), 63);
+    return (-1L >>> (63 - to)) & (-1L << from);
+  }
+
+  @FunctionalInterface
+  private interface SlotRangeConsumer {
+    void accept(LocalDate day, int firstSlot, int lastSlot);
+  }
+}
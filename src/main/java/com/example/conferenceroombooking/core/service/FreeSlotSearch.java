@@ -0,0 +1,93 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.AvailableSlot;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Finds the earliest slots of a given duration in which a conference room is free. Every room walks its own gaps: a
+ * candidate start that collides with a booking jumps past the end of that booking, one that collides with a
+ * maintenance window jumps past the window, so each step is a single index lookup. The rooms are merged by start,
+ * smaller rooms first, and a room that yielded a slot offers the slot right after it next.
+ */
+final class FreeSlotSearch {
+
+  private final ConferenceRoomBookingIndex conferenceRoomBookingIndex;
+  private final MaintenanceSchedule maintenanceSchedule;
+  private final Duration duration;
+  private final LocalDate day;
+
+  private FreeSlotSearch(ConferenceRoomBookingIndex conferenceRoomBookingIndex, MaintenanceSchedule maintenanceSchedule,
+                         Duration duration, LocalDate day) {
+    this.conferenceRoomBookingIndex = conferenceRoomBookingIndex;
+    this.maintenanceSchedule = maintenanceSchedule;
+    this.duration = duration;
+    this.day = day;
+  }
+
+  /**
+   * Up to {@code limit} slots starting on a full minute at or after {@code earliestFrom} and ending on the same day,
+   * ordered by start and then by the order of the given conference rooms.
+   */
+  static List<AvailableSlot> find(List<ConferenceRoom> conferenceRooms, ConferenceRoomBookingIndex conferenceRoomBookingIndex,
+                                  MaintenanceSchedule maintenanceSchedule, LocalDateTime earliestFrom, Duration duration, int limit) {
+    FreeSlotSearch search = new FreeSlotSearch(conferenceRoomBookingIndex, maintenanceSchedule, duration, earliestFrom.toLocalDate());
+    LocalDateTime firstCandidate = ceilToMinute(earliestFrom);
+    PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparing(Candidate::from).thenComparingInt(Candidate::order));
+    for (int i = 0; i < conferenceRooms.size(); i++) {
+      int order = i;
+      search.nextFreeStart(conferenceRooms.get(i), firstCandidate)
+          .ifPresent(from -> candidates.add(new Candidate(from, conferenceRooms.get(order), order)));
+    }
+    List<AvailableSlot> availableSlots = new ArrayList<>(limit);
+    while (availableSlots.size() < limit && !candidates.isEmpty()) {
+      Candidate candidate = candidates.poll();
+      LocalDateTime to = candidate.from().plus(duration);
+      availableSlots.add(new AvailableSlot(candidate.from(), to, candidate.conferenceRoom()));
+      search.nextFreeStart(candidate.conferenceRoom(), to)
+          .ifPresent(from -> candidates.add(new Candidate(from, candidate.conferenceRoom(), candidate.order())));
+    }
+    return availableSlots;
+  }
+
+  private Optional<LocalDateTime> nextFreeStart(ConferenceRoom conferenceRoom, LocalDateTime from) {
+    String name = conferenceRoom.getName();
+    LocalDateTime candidate = from;
+    while (true) {
+      LocalDateTime to = candidate.plus(duration);
+      if (!to.toLocalDate().equals(day)) {
+        return Optional.empty();
+      }
+      Optional<ConferenceRoomBooking> conflict = conferenceRoomBookingIndex.findConflict(name, candidate, to);
+      if (conflict.isPresent()) {
+        // Bookings include their end, so the next start is the first full minute after it.
+        candidate = conflict.get().getToTimestamp().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        continue;
+      }
+      Optional<LocalDateTime> blocked = maintenanceSchedule.findLastBlockedMinute(name, candidate, to);
+      if (blocked.isPresent()) {
+        candidate = blocked.get().plusMinutes(1);
+        continue;
+      }
+      return Optional.of(candidate);
+    }
+  }
+
+  private static LocalDateTime ceilToMinute(LocalDateTime timestamp) {
+    LocalDateTime truncated = timestamp.truncatedTo(ChronoUnit.MINUTES);
+    return truncated.equals(timestamp) ? truncated : truncated.plusMinutes(1);
+  }
+
+  private record Candidate(LocalDateTime from, ConferenceRoom conferenceRoom, int order) {
+  }
+}
@@ -0,0 +1,156 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.MaintenanceWindow;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maintenance windows compiled into one bitmap of blocked minutes per weekday, one for the windows of all rooms and
+ * one per room with windows of its own. Immutable, so a new schedule can be swapped in while bookings are validated.
+ */
+public final class MaintenanceSchedule {
+
+  private static final int MINUTES_PER_DAY = 24 * 60;
+
+  private final List<MaintenanceWindow> maintenanceWindows;
+  private final BitSet[] blockedMinutesByDay = newDays();
+  private final Map<String, BitSet[]> blockedMinutesByConferenceRoom = new HashMap<>();
+
+  private MaintenanceSchedule(List<MaintenanceWindow> maintenanceWindows) {
+    this.maintenanceWindows = List.copyOf(maintenanceWindows);
+    for (MaintenanceWindow maintenanceWindow : this.maintenanceWindows) {
+      if (maintenanceWindow.conferenceRooms().isEmpty()) {
+        block(blockedMinutesByDay, maintenanceWindow);
+      } else {
+        maintenanceWindow.conferenceRooms().forEach(conferenceRoom ->
+            block(blockedMinutesByConferenceRoom.computeIfAbsent(conferenceRoom, c -> newDays()), maintenanceWindow));
+      }
+    }
+  }
+
+  public static MaintenanceSchedule compile(List<MaintenanceWindow> maintenanceWindows) {
+    return new MaintenanceSchedule(maintenanceWindows);
+  }
+
+  public List<MaintenanceWindow> getMaintenanceWindows() {
+    return maintenanceWindows;
+  }
+
+  public boolean hasConferenceRoomWindows() {
+    return !blockedMinutesByConferenceRoom.isEmpty();
+  }
+
+  /**
+   * Whether the window touches the inside of a maintenance window of all rooms. Touching its start or end is fine.
+   */
+  public boolean isBlocked(LocalDateTime from, LocalDateTime to) {
+    return isBlocked(blockedMinutesByDay, from, to);
+  }
+
+  /**
+   * Whether the window touches the inside of a maintenance window of all rooms or of the given room.
+   */
+  public boolean isBlocked(String conferenceRoom, LocalDateTime from, LocalDateTime to) {
+    BitSet[] blockedMinutes = blockedMinutesByConferenceRoom.get(conferenceRoom);
+    return isBlocked(blockedMinutesByDay, from, to) || (blockedMinutes != null && isBlocked(blockedMinutes, from, to));
+  }
+
+  /**
+   * The first maintenance window of all rooms that blocks the window, only meant for reporting.
+   */
+  public Optional<MaintenanceWindow> findBlockingWindow(LocalDateTime from, LocalDateTime to) {
+    return maintenanceWindows.stream()
+        .filter(maintenanceWindow -> maintenanceWindow.conferenceRooms().isEmpty())
+        .filter(maintenanceWindow -> isBlocked(block(newDays(), maintenanceWindow), from, to))
+        .findFirst();
+  }
+
+  /**
+   * The start of the last minute of the window under maintenance for all rooms or the given room, so a window
+   * starting a minute later is clear of it.
+   */
+  public Optional<LocalDateTime> findLastBlockedMinute(String conferenceRoom, LocalDateTime from, LocalDateTime to) {
+    BitSet[] blockedMinutes = blockedMinutesByConferenceRoom.get(conferenceRoom);
+    LocalDate firstDay = from.toLocalDate();
+    LocalDate lastDay = to.toLocalDate();
+    for (LocalDate day = lastDay; !day.isBefore(firstDay); day = day.minusDays(1)) {
+      int firstMinute = day.equals(firstDay) ? from.toLocalTime().toSecondOfDay() / 60 : 0;
+      int lastMinute = day.equals(lastDay) ? (to.toLocalTime().toSecondOfDay() + 59) / 60 - 1 : MINUTES_PER_DAY - 1;
+      if (lastMinute < firstMinute) {
+        continue;
+      }
+      int dayOfWeek = day.getDayOfWeek().ordinal();
+      int blocked = Math.max(blockedMinutesByDay[dayOfWeek].previousSetBit(lastMinute),
+          blockedMinutes == null ? -1 : blockedMinutes[dayOfWeek].previousSetBit(lastMinute));
+      if (blocked >= firstMinute) {
+        return Optional.of(day.atStartOfDay().plusMinutes(blocked));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Bitmap of the slots of the day during which the room is under maintenance for at least a minute.
+   */
+  public long[] getBlockedSlots(String conferenceRoom, LocalDate day, int slotMinutes) {
+    int dayOfWeek = day.getDayOfWeek().ordinal();
+    BitSet blockedMinutes = (BitSet) blockedMinutesByDay[dayOfWeek].clone();
+    BitSet[] conferenceRoomBlockedMinutes = blockedMinutesByConferenceRoom.get(conferenceRoom);
+    if (conferenceRoomBlockedMinutes != null) {
+      blockedMinutes.or(conferenceRoomBlockedMinutes[dayOfWeek]);
+    }
+    BitSet blockedSlots = new BitSet(MINUTES_PER_DAY / slotMinutes);
+    for (int minute = blockedMinutes.nextSetBit(0); minute >= 0; minute = blockedMinutes.nextSetBit(minute + 1)) {
+      blockedSlots.set(minute / slotMinutes);
+    }
+    return Arrays.copyOf(blockedSlots.toLongArray(), (MINUTES_PER_DAY / slotMinutes + 63) >>> 6);
+  }
+
+  private static boolean isBlocked(BitSet[] blockedMinutesByDay, LocalDateTime from, LocalDateTime to) {
+    LocalDate day = from.toLocalDate();
+    LocalDate lastDay = to.toLocalDate();
+    int firstMinute = from.toLocalTime().toSecondOfDay() / 60;
+    while (!day.isAfter(lastDay)) {
+      boolean last = day.equals(lastDay);
+      // A window ending exactly on a minute only touches the minute before it.
+      int lastMinute = last ? (to.toLocalTime().toSecondOfDay() + 59) / 60 - 1 : MINUTES_PER_DAY - 1;
+      if (lastMinute >= firstMinute) {
+        int blocked = blockedMinutesByDay[day.getDayOfWeek().ordinal()].nextSetBit(firstMinute);
+        if (blocked >= 0 && blocked <= lastMinute) {
+          return true;
+        }
+      }
+      day = day.plusDays(1);
+      firstMinute = 0;
+    }
+    return false;
+  }
+
+  private static BitSet[] block(BitSet[] blockedMinutesByDay, MaintenanceWindow maintenanceWindow) {
+    int startMinute = maintenanceWindow.start().toSecondOfDay() / 60;
+    int endMinute = maintenanceWindow.end().equals(LocalTime.MIDNIGHT) ? MINUTES_PER_DAY : maintenanceWindow.end().toSecondOfDay() / 60;
+    for (DayOfWeek day : DayOfWeek.values()) {
+      if (maintenanceWindow.days().isEmpty() || maintenanceWindow.days().contains(day)) {
+        blockedMinutesByDay[day.ordinal()].set(startMinute, endMinute);
+      }
+    }
+    return blockedMinutesByDay;
+  }
+
+  private static BitSet[] newDays() {
+    BitSet[] days = new BitSet[DayOfWeek.values().length];
+    for (int i = 0; i < days.length; i++) {
+      days[i] = new BitSet(MINUTES_PER_DAY);
+    }
+    return days;
+  }
+}
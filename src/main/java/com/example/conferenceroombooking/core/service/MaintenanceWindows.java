@@ -0,0 +1,37 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.MaintenanceWindow;
+
+import java.util.List;
+
+/**
+ * The current maintenance windows, compiled into a {@link MaintenanceSchedule}. Replacing the windows compiles a new
+ * schedule and swaps it in as a whole, so bookings in flight keep validating against the schedule they started with.
+ */
+public class MaintenanceWindows {
+
+  private final AvailabilityChangeFeed availabilityChangeFeed;
+  private final BookingStateVersion bookingStateVersion;
+  private volatile MaintenanceSchedule schedule;
+
+  public MaintenanceWindows(List<MaintenanceWindow> maintenanceWindows, AvailabilityChangeFeed availabilityChangeFeed,
+                            BookingStateVersion bookingStateVersion) {
+    this.availabilityChangeFeed = availabilityChangeFeed;
+    this.bookingStateVersion = bookingStateVersion;
+    this.schedule = MaintenanceSchedule.compile(maintenanceWindows);
+  }
+
+  public MaintenanceSchedule getSchedule() {
+    return schedule;
+  }
+
+  public List<MaintenanceWindow> getMaintenanceWindows() {
+    return schedule.getMaintenanceWindows();
+  }
+
+  public void replace(List<MaintenanceWindow> maintenanceWindows) {
+    schedule = MaintenanceSchedule.compile(maintenanceWindows);
+    bookingStateVersion.advance();
+    availabilityChangeFeed.maintenanceChanged();
+  }
+}
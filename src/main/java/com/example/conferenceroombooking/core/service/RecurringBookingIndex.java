@@ -0,0 +1,90 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory index of the recurring bookings per conference room and week day, so a lookup for a day only visits the
+ * recurring bookings that may occur on its week day. Occurrences are never materialized beyond the window asked for.
+ * Recurring bookings are added rarely compared to lookups, hence the copy-on-write lists.
+ */
+public class RecurringBookingIndex {
+
+  private final Map<String, Map<DayOfWeek, List<RecurringConferenceRoomBooking>>> recurringBookingsByConferenceRoom =
+      new ConcurrentHashMap<>();
+
+  public void add(RecurringConferenceRoomBooking recurringBooking) {
+    Map<DayOfWeek, List<RecurringConferenceRoomBooking>> byDayOfWeek = recurringBookingsByConferenceRoom
+        .computeIfAbsent(recurringBooking.getConferenceRoom(), conferenceRoom -> newByDayOfWeek());
+    recurringBooking.daysOfWeek().forEach(dayOfWeek -> byDayOfWeek.get(dayOfWeek).add(recurringBooking));
+  }
+
+  public void remove(RecurringConferenceRoomBooking recurringBooking) {
+    Map<DayOfWeek, List<RecurringConferenceRoomBooking>> byDayOfWeek =
+        recurringBookingsByConferenceRoom.get(recurringBooking.getConferenceRoom());
+    if (byDayOfWeek != null) {
+      // By identity, as a recurring booking that failed to be stored has no id yet.
+      recurringBooking.daysOfWeek().forEach(dayOfWeek -> byDayOfWeek.get(dayOfWeek).removeIf(indexed -> indexed == recurringBooking));
+    }
+  }
+
+  /**
+   * The occurrence of the room overlapping the window that ends last, or null if there is none.
+   */
+  public ConferenceRoomBooking conflict(String conferenceRoom, LocalDateTime from, LocalDateTime to) {
+    Map<DayOfWeek, List<RecurringConferenceRoomBooking>> byDayOfWeek = recurringBookingsByConferenceRoom.get(conferenceRoom);
+    if (byDayOfWeek == null) {
+      return null;
+    }
+    // Walk back from the last day, as an occurrence on a later day always ends later.
+    for (LocalDate day = to.toLocalDate(); !day.isBefore(from.toLocalDate()); day = day.minusDays(1)) {
+      ConferenceRoomBooking conflict = null;
+      for (RecurringConferenceRoomBooking recurringBooking : byDayOfWeek.get(day.getDayOfWeek())) {
+        if (recurringBooking.overlaps(day, from, to)
+            && (conflict == null || recurringBooking.getEndTime().isAfter(conflict.getToTimestamp().toLocalTime()))) {
+          conflict = recurringBooking.occurrenceOn(day);
+        }
+      }
+      if (conflict != null) {
+        return conflict;
+      }
+    }
+    return null;
+  }
+
+  public boolean conflicts(RecurringConferenceRoomBooking recurringBooking) {
+    Map<DayOfWeek, List<RecurringConferenceRoomBooking>> byDayOfWeek =
+        recurringBookingsByConferenceRoom.get(recurringBooking.getConferenceRoom());
+    return byDayOfWeek != null && recurringBooking.daysOfWeek().stream()
+        .flatMap(dayOfWeek -> byDayOfWeek.get(dayOfWeek).stream())
+        .anyMatch(recurringBooking::overlaps);
+  }
+
+  /**
+   * The occurrences of the room on the day.
+   */
+  public List<ConferenceRoomBooking> occurrences(String conferenceRoom, LocalDate day) {
+    Map<DayOfWeek, List<RecurringConferenceRoomBooking>> byDayOfWeek = recurringBookingsByConferenceRoom.get(conferenceRoom);
+    return byDayOfWeek == null ? List.of() : byDayOfWeek.get(day.getDayOfWeek()).stream()
+        .filter(recurringBooking -> recurringBooking.occursOn(day))
+        .map(recurringBooking -> recurringBooking.occurrenceOn(day))
+        .toList();
+  }
+
+  private static Map<DayOfWeek, List<RecurringConferenceRoomBooking>> newByDayOfWeek() {
+    Map<DayOfWeek, List<RecurringConferenceRoomBooking>> byDayOfWeek = new EnumMap<>(DayOfWeek.class);
+    for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+      byDayOfWeek.put(dayOfWeek, new CopyOnWriteArrayList<>());
+    }
+    return byDayOfWeek;
+  }
+}
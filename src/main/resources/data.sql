@@ -1,4 +0,0 @@
-INSERT INTO conference_rooms (id, name, max_capacity) VALUES (1, 'Amaze', 3);
-INSERT INTO conference_rooms (id, name, max_capacity) VALUES (2, 'Beauty', 7);
-INSERT INTO conference_rooms (id, name, max_capacity) VALUES (3, 'Inspire', 12);
-INSERT INTO conference_rooms (id, name, max_capacity) VALUES (4, 'Strive', 20);
\ No newline at end of file
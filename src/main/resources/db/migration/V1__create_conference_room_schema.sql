@@ -0,0 +1,29 @@
+CREATE SEQUENCE conference_rooms_seq START WITH 101 INCREMENT BY 50;
+
+CREATE TABLE conference_rooms (
+  id           BIGINT       NOT NULL PRIMARY KEY,
+  name         VARCHAR(255) NOT NULL,
+  max_capacity INTEGER      NOT NULL,
+  CONSTRAINT uk_conference_rooms_name UNIQUE (name)
+);
+
+CREATE SEQUENCE conference_room_bookings_seq START WITH 1 INCREMENT BY 50;
+
+-- Bookings never span midnight, which bounds the per-room overlap check to the bookings of a single day.
+CREATE TABLE conference_room_bookings (
+  id                     BIGINT       NOT NULL PRIMARY KEY,
+  conference_room_id     BIGINT       NOT NULL,
+  conference_room        VARCHAR(255) NOT NULL,
+  from_timestamp         TIMESTAMP(6) NOT NULL,
+  to_timestamp           TIMESTAMP(6) NOT NULL,
+  number_of_participants INTEGER      NOT NULL,
+  CONSTRAINT fk_conference_room_bookings_conference_room FOREIGN KEY (conference_room_id) REFERENCES conference_rooms (id),
+  CONSTRAINT ck_conference_room_bookings_window CHECK (to_timestamp > from_timestamp
+      AND CAST(from_timestamp AS DATE) = CAST(to_timestamp AS DATE))
+);
+
+CREATE INDEX ix_conference_room_bookings_room_window ON conference_room_bookings (conference_room_id, from_timestamp, to_timestamp);
+CREATE INDEX ix_conference_room_bookings_window ON conference_room_bookings (to_timestamp, from_timestamp);
+
+CREATE TRIGGER tr_conference_room_bookings_no_overlap BEFORE INSERT, UPDATE ON conference_room_bookings
+  FOR EACH ROW CALL "com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingOverlapTrigger";
@@ -0,0 +1,19 @@
+CREATE SEQUENCE recurring_conference_room_bookings_seq START WITH 1 INCREMENT BY 50;
+
+-- A recurring booking is stored once as its rule, its occurrences are expanded by the application when queried.
+CREATE TABLE recurring_conference_room_bookings (
+  id                     BIGINT       NOT NULL PRIMARY KEY,
+  conference_room_id     BIGINT       NOT NULL,
+  conference_room        VARCHAR(255) NOT NULL,
+  start_time             TIME         NOT NULL,
+  end_time               TIME         NOT NULL,
+  first_day              DATE         NOT NULL,
+  last_day               DATE         NOT NULL,
+  recurrence             VARCHAR(16)  NOT NULL,
+  number_of_participants INTEGER      NOT NULL,
+  CONSTRAINT fk_recurring_conference_room_bookings_conference_room FOREIGN KEY (conference_room_id) REFERENCES conference_rooms (id),
+  CONSTRAINT ck_recurring_conference_room_bookings_window CHECK (end_time > start_time AND last_day >= first_day),
+  CONSTRAINT ck_recurring_conference_room_bookings_recurrence CHECK (recurrence IN ('DAILY', 'WEEKLY'))
+);
+
+CREATE INDEX ix_recurring_conference_room_bookings_last_day ON recurring_conference_room_bookings (last_day);
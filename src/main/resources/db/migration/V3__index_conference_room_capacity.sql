@@ -0,0 +1,2 @@
+-- Lets availability queries filter tens of thousands of rooms by capacity, smallest first, before the anti-join.
+CREATE INDEX ix_conference_rooms_max_capacity ON conference_rooms (max_capacity, id);
@@ -0,0 +1,4 @@
+MERGE INTO conference_rooms (id, name, max_capacity) KEY (id) VALUES (1, 'Amaze', 3);
+MERGE INTO conference_rooms (id, name, max_capacity) KEY (id) VALUES (2, 'Beauty', 7);
+MERGE INTO conference_rooms (id, name, max_capacity) KEY (id) VALUES (3, 'Inspire', 12);
+MERGE INTO conference_rooms (id, name, max_capacity) KEY (id) VALUES (4, 'Strive', 20);
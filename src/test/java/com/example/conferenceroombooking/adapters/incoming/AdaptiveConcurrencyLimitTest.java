@@ -0,0 +1,66 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+  private static final long FAST = Duration.ofMillis(1).toNanos();
+  private static final long SLOW = Duration.ofMillis(200).toNanos();
+
+  @Test
+  void shouldRejectBeyondLimitAndQueue() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0, Duration.ZERO, Duration.ofMillis(50));
+
+    assertThat(limit.tryAcquire()).isTrue();
+    assertThat(limit.tryAcquire()).isTrue();
+    assertThat(limit.tryAcquire()).isFalse();
+
+    limit.release(FAST);
+    assertThat(limit.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void shouldAdmitQueuedRequestOnceAnotherCompletes() throws Exception {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 1, Duration.ofSeconds(5), Duration.ofMillis(50));
+    assertThat(limit.tryAcquire()).isTrue();
+
+    CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(limit::tryAcquire);
+    Thread.sleep(50);
+    limit.release(FAST);
+
+    assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldGrowWhileSaturatedAndFast() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0, Duration.ZERO, Duration.ofMillis(50));
+    limit.tryAcquire();
+    limit.tryAcquire();
+
+    limit.release(FAST);
+    limit.release(FAST);
+
+    assertThat(limit.getLimit()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldShrinkOncePerSlowRoundTrip() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 40, 0, Duration.ZERO, Duration.ofMillis(50));
+    for (int i = 0; i < 3; i++) {
+      limit.tryAcquire();
+    }
+
+    for (int i = 0; i < 3; i++) {
+      limit.release(SLOW);
+    }
+
+    assertThat(limit.getLimit()).isEqualTo(18);
+    assertThat(limit.getInFlight()).isZero();
+  }
+}
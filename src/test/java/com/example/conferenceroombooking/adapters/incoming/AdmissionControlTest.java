@@ -0,0 +1,90 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "booking.admission.retry-after=2s",
+    "booking.admission.writes.initial-limit=1",
+    "booking.admission.writes.min-limit=1",
+    "booking.admission.writes.max-limit=1",
+    "booking.admission.writes.queue-size=0"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@AutoConfigureMockMvc
+class AdmissionControlTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  BookingService bookingService;
+
+  @Test
+  void shouldShedBookingsOverCapacityButKeepServingReads() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(bookingService.bookConferenceRoom(any(Booking.class))).thenAnswer(invocation -> {
+      started.countDown();
+      release.await();
+      return ConferenceRoomBooking.builder()
+          .fromTimestamp(LocalDateTime.parse("2024-08-12T10:00:00"))
+          .toTimestamp(LocalDateTime.parse("2024-08-12T12:00:00"))
+          .conferenceRoom("Room A").build();
+    });
+    when(bookingService.getConferenceRoomBookings(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of());
+
+    CompletableFuture<Integer> inFlight = CompletableFuture.supplyAsync(() -> book().getResponse().getStatus());
+    try {
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      mockMvc.perform(post("/api/conference-room/book")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"from\":\"2024-08-12T13:00:00\",\"to\":\"2024-08-12T14:00:00\",\"numberOfParticipants\":10}"))
+          .andExpect(status().isServiceUnavailable())
+          .andExpect(header().string("Retry-After", is("2")));
+      mockMvc.perform(get("/api/conference-room/bookings")
+              .param("from", "2024-08-12T00:00:00")
+              .param("to", "2024-08-13T00:00:00"))
+          .andExpect(status().isOk());
+    } finally {
+      release.countDown();
+    }
+    assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo(201);
+  }
+
+  private MvcResult book() {
+    try {
+      return mockMvc.perform(post("/api/conference-room/book")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"from\":\"2024-08-12T10:00:00\",\"to\":\"2024-08-12T12:00:00\",\"numberOfParticipants\":10}"))
+          .andReturn();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
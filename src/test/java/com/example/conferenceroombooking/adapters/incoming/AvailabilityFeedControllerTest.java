@@ -0,0 +1,74 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.service.AvailabilityChangeFeed;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@AutoConfigureMockMvc
+class AvailabilityFeedControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AvailabilityChangeFeed availabilityChangeFeed;
+
+  @Test
+  void shouldPushBookedConferenceRooms() throws Exception {
+    MockHttpServletResponse response = mockMvc.perform(get("/api/conference-room/availability/changes").accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted())
+        .andReturn().getResponse();
+
+    availabilityChangeFeed.booked(ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse("2024-08-12T10:00:00"))
+        .toTimestamp(LocalDateTime.parse("2024-08-12T11:00:00"))
+        .conferenceRoom("Amaze")
+        .build());
+
+    String data = "data:{\"conferenceRoom\":\"Amaze\",\"from\":\"2024-08-12T10:00:00\",\"to\":\"2024-08-12T11:00:00\"}";
+    long deadline = System.nanoTime() + 5_000_000_000L;
+    while (!response.getContentAsString().contains(data) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(response.getContentAsString())
+        .contains("event:booked")
+        .contains(data);
+  }
+
+  @Test
+  void shouldGetServiceUnavailableWhenFeedHasTooManySubscribers() throws Exception {
+    List<AvailabilityChangeFeed.Subscription> subscriptions = new ArrayList<>();
+    Optional<AvailabilityChangeFeed.Subscription> subscription;
+    while ((subscription = availabilityChangeFeed.subscribe()).isPresent()) {
+      subscriptions.add(subscription.get());
+    }
+
+    try {
+      mockMvc.perform(get("/api/conference-room/availability/changes").accept(MediaType.TEXT_EVENT_STREAM))
+          .andExpect(status().isServiceUnavailable())
+          .andExpect(header().string("Retry-After", "15"));
+    } finally {
+      subscriptions.forEach(AvailabilityChangeFeed.Subscription::close);
+    }
+  }
+}
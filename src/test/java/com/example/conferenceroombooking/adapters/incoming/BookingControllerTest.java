@@ -1,26 +1,50 @@
 package com.example.conferenceroombooking.adapters.incoming;
 
+import com.example.conferenceroombooking.adapters.incoming.model.BookingMapper;
 import com.example.conferenceroombooking.adapters.incoming.model.BookingRequest;
+import com.example.conferenceroombooking.core.domain.AvailableSlot;
+import com.example.conferenceroombooking.core.domain.BatchBookingResult;
 import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.BookingCursor;
 import com.example.conferenceroombooking.core.domain.ConferenceRoom;
 import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import com.example.conferenceroombooking.core.domain.DayAvailability;
 import com.example.conferenceroombooking.core.domain.NoConferenceRoomAvailableException;
+import com.example.conferenceroombooking.core.domain.Recurrence;
+import com.example.conferenceroombooking.core.domain.RecurringBooking;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
 import com.example.conferenceroombooking.core.service.BookingService;
+import com.example.conferenceroombooking.core.service.BookingStateVersion;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -61,6 +85,30 @@ class BookingControllerTest {
         .andExpect(jsonPath("$.conferenceRoom", is("Room A")));
   }
 
+  @Test
+  void shouldBookRecurringConferenceRoom() throws Exception {
+    RecurringConferenceRoomBooking recurringBooking = RecurringConferenceRoomBooking.builder()
+        .startTime(LocalTime.of(10, 0))
+        .endTime(LocalTime.of(11, 0))
+        .firstDay(LocalDate.parse("2024-08-12"))
+        .lastDay(LocalDate.parse("2024-12-30"))
+        .recurrence(Recurrence.WEEKLY)
+        .conferenceRoom("Room A").build();
+
+    when(bookingService.bookRecurringConferenceRoom(any(RecurringBooking.class)))
+        .thenReturn(recurringBooking);
+
+    mockMvc.perform(post("/api/conference-room/book/recurring")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"from\":\"2024-08-12T10:00:00\",\"to\":\"2024-08-12T11:00:00\",\"recurrence\":\"WEEKLY\",\"until\":\"2024-12-31\",\"numberOfParticipants\":10}"))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.from", is("2024-08-12T10:00:00")))
+        .andExpect(jsonPath("$.to", is("2024-08-12T11:00:00")))
+        .andExpect(jsonPath("$.recurrence", is("WEEKLY")))
+        .andExpect(jsonPath("$.until", is("2024-12-30")))
+        .andExpect(jsonPath("$.conferenceRoom", is("Room A")));
+  }
+
   @Test
   void shouldGetConflictWhenBookConferenceRoomOnNoConferenceRoomAvailableException() throws Exception {
     when(bookingService.bookConferenceRoom(any(Booking.class)))
@@ -73,6 +121,71 @@ class BookingControllerTest {
         .andExpect(content().string("No room"));
   }
 
+  @Test
+  void shouldReplayBookingForRetryWithSameIdempotencyKey() throws Exception {
+    when(bookingService.bookConferenceRoom(any(Booking.class)))
+        .thenReturn(ConferenceRoomBooking.builder()
+            .fromTimestamp(LocalDateTime.parse("2024-08-12T13:00:00"))
+            .toTimestamp(LocalDateTime.parse("2024-08-12T14:00:00"))
+            .numberOfParticipants(10)
+            .conferenceRoom("Room A").build());
+
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(post("/api/conference-room/book")
+              .header("Idempotency-Key", "replay-booking")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"from\":\"2024-08-12T13:00:00\",\"to\":\"2024-08-12T14:00:00\",\"numberOfParticipants\":10}"))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.conferenceRoom", is("Room A")));
+    }
+    verify(bookingService, times(1)).bookConferenceRoom(any(Booking.class));
+  }
+
+  @Test
+  void shouldReplayConflictForRetryWithSameIdempotencyKey() throws Exception {
+    when(bookingService.bookConferenceRoom(any(Booking.class)))
+        .thenThrow(new NoConferenceRoomAvailableException("No room"));
+
+    for (int i = 0; i < 2; i++) {
+      mockMvc.perform(post("/api/conference-room/book")
+              .header("Idempotency-Key", "replay-conflict")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"from\":\"2024-08-12T15:00:00\",\"to\":\"2024-08-12T16:00:00\",\"numberOfParticipants\":10}"))
+          .andExpect(status().isConflict())
+          .andExpect(content().string("No room"));
+    }
+    verify(bookingService, times(1)).bookConferenceRoom(any(Booking.class));
+  }
+
+  @Test
+  void shouldGetBadRequestWhenIdempotencyKeyIsReusedForDifferentBooking() throws Exception {
+    when(bookingService.bookConferenceRoom(any(Booking.class)))
+        .thenThrow(new NoConferenceRoomAvailableException("No room"));
+
+    mockMvc.perform(post("/api/conference-room/book")
+            .header("Idempotency-Key", "reused")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"from\":\"2024-08-12T15:00:00\",\"to\":\"2024-08-12T16:00:00\",\"numberOfParticipants\":10}"))
+        .andExpect(status().isConflict());
+    mockMvc.perform(post("/api/conference-room/book")
+            .header("Idempotency-Key", "reused")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"from\":\"2024-08-12T15:00:00\",\"to\":\"2024-08-12T16:00:00\",\"numberOfParticipants\":5}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldGetConflictWhenBookConferenceRoomOnDataIntegrityViolationException() throws Exception {
+    when(bookingService.bookConferenceRoom(any(Booking.class)))
+        .thenThrow(new DataIntegrityViolationException("Booking overlaps"));
+
+    mockMvc.perform(post("/api/conference-room/book")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"from\":\"2024-08-12T10:00:00\",\"to\":\"2024-08-12T12:00:00\",\"numberOfParticipants\":10}"))
+        .andExpect(status().isConflict())
+        .andExpect(content().string("The conference room is already booked for this time"));
+  }
+
   @Test
   void shouldGetBadRequestWhenBookConferenceRoomOnIllegalArgumentException() throws Exception {
     when(bookingService.bookConferenceRoom(any(Booking.class)))
@@ -97,6 +210,30 @@ class BookingControllerTest {
         .andExpect(content().string("No rooms configured"));
   }
 
+  @Test
+  void shouldBookConferenceRoomsInBatch() throws Exception {
+    ConferenceRoomBooking booking = ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse("2024-08-12T10:00:00"))
+        .toTimestamp(LocalDateTime.parse("2024-08-12T12:00:00"))
+        .numberOfParticipants(10)
+        .conferenceRoom("Room A").build();
+
+    when(bookingService.bookConferenceRooms(anyList()))
+        .thenReturn(List.of(BatchBookingResult.booked(booking), BatchBookingResult.rejected("No room")));
+
+    mockMvc.perform(post("/api/conference-room/book/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"bookings\":["
+                + "{\"from\":\"2024-08-12T10:00:00\",\"to\":\"2024-08-12T12:00:00\",\"numberOfParticipants\":10},"
+                + "{\"from\":\"2024-08-12T10:00:00\",\"to\":\"2024-08-12T12:00:00\",\"numberOfParticipants\":10}]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results", hasSize(2)))
+        .andExpect(jsonPath("$.results[0].status", is("BOOKED")))
+        .andExpect(jsonPath("$.results[0].booking.conferenceRoom", is("Room A")))
+        .andExpect(jsonPath("$.results[1].status", is("REJECTED")))
+        .andExpect(jsonPath("$.results[1].message", is("No room")));
+  }
+
   @Test
   void shouldGetConferenceRoomAvailability() throws Exception {
     ConferenceRoom ConferenceRoomA = ConferenceRoom.builder().name("Room A").maxCapacity(7).build();
@@ -115,19 +252,51 @@ class BookingControllerTest {
         .andExpect(jsonPath("$.conferenceRooms", containsInAnyOrder("Room A", "Room B")));
   }
 
+  @Test
+  void shouldGetConferenceRoomDayAvailability() throws Exception {
+    ConferenceRoom conferenceRoom = ConferenceRoom.builder().name("Room A").maxCapacity(7).build();
+    LocalDate date = LocalDate.parse("2024-08-12");
+    when(bookingService.getDayAvailability(date)).thenReturn(new DayAvailability(date, 15, 96, List.of(
+        new DayAvailability.ConferenceRoomDay(conferenceRoom, new long[]{1L << 40, 0L}, new long[]{1L << 36, 0L}))));
+
+    mockMvc.perform(get("/api/conference-room/availability/day").param("date", "2024-08-12"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.date", is("2024-08-12")))
+        .andExpect(jsonPath("$.slotMinutes", is(15)))
+        .andExpect(jsonPath("$.slots", is(96)))
+        .andExpect(jsonPath("$.conferenceRooms[0].conferenceRoom", is("Room A")))
+        .andExpect(jsonPath("$.conferenceRooms[0].booked", is("AAAAAAABAAAAAAAA")))
+        .andExpect(jsonPath("$.conferenceRooms[0].maintenance", is("AAAAABAAAAAAAAAA")));
+  }
+
+  @Test
+  void shouldGetNextAvailableSlots() throws Exception {
+    ConferenceRoom conferenceRoom = ConferenceRoom.builder().name("Room A").maxCapacity(7).build();
+    LocalDateTime from = LocalDateTime.parse("2024-08-12T10:00:00");
+    when(bookingService.getNextAvailableSlots(from, Duration.ofMinutes(30), 5, 2))
+        .thenReturn(List.of(
+            new AvailableSlot(LocalDateTime.parse("2024-08-12T10:15:00"), LocalDateTime.parse("2024-08-12T10:45:00"), conferenceRoom),
+            new AvailableSlot(LocalDateTime.parse("2024-08-12T10:45:00"), LocalDateTime.parse("2024-08-12T11:15:00"), conferenceRoom)));
+
+    mockMvc.perform(get("/api/conference-room/next-available")
+            .param("from", from.toString())
+            .param("duration", "PT30M")
+            .param("numberOfParticipants", "5")
+            .param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.slots", hasSize(2)))
+        .andExpect(jsonPath("$.slots[0].from", is("2024-08-12T10:15:00")))
+        .andExpect(jsonPath("$.slots[0].to", is("2024-08-12T10:45:00")))
+        .andExpect(jsonPath("$.slots[0].conferenceRoom", is("Room A")));
+  }
+
   @Test
   void shouldGetConferenceRoomBookings() throws Exception {
     LocalDateTime from = LocalDateTime.parse("2024-08-12T10:00:00");
     LocalDateTime to = LocalDateTime.parse("2024-08-12T12:00:00");
 
     when(bookingService.getConferenceRoomBookings(from, to))
-        .thenReturn(List.of(ConferenceRoomBooking.builder()
-            .id(1L)
-            .fromTimestamp(from)
-            .toTimestamp(to)
-            .numberOfParticipants(5)
-            .conferenceRoom("Room A")
-            .build()));
+        .thenReturn(List.of(new ConferenceRoomBookingSummary(1L, from, to, "Room A")));
 
     mockMvc.perform(get("/api/conference-room/bookings")
         .param("from", from.toString())
@@ -138,4 +307,129 @@ class BookingControllerTest {
         .andExpect(jsonPath("$.bookings[0].from", is("2024-08-12T10:00:00")))
         .andExpect(jsonPath("$.bookings[0].to", is("2024-08-12T12:00:00")));
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldGetNotModifiedWhenConferenceRoomBookingsAreUnchanged() throws Exception {
+    LocalDateTime from = LocalDateTime.parse("2024-08-13T10:00:00");
+    LocalDateTime to = LocalDateTime.parse("2024-08-13T12:00:00");
+    when(bookingService.getBookingStateVersion()).thenReturn(OptionalLong.of(42));
+    when(bookingService.getConferenceRoomBookings(from, to)).thenReturn(List.of());
+
+    mockMvc.perform(get("/api/conference-room/bookings")
+            .param("from", from.toString())
+            .param("to", to.toString()))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"42\""))
+        .andExpect(jsonPath("$.bookings", hasSize(0)));
+    mockMvc.perform(get("/api/conference-room/bookings")
+            .param("from", from.toString())
+            .param("to", to.toString())
+            .header("If-None-Match", "\"42\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    when(bookingService.getBookingStateVersion()).thenReturn(OptionalLong.of(43));
+    mockMvc.perform(get("/api/conference-room/bookings")
+            .param("from", from.toString())
+            .param("to", to.toString())
+            .header("If-None-Match", "\"42\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"43\""));
+
+    verify(bookingService, times(2)).getConferenceRoomBookings(from, to);
+  }
+
+  @Test
+  void shouldNotAnswerNotModifiedForETagOfPreviousStart() throws Exception {
+    LocalDateTime from = LocalDateTime.parse("2024-08-15T10:00:00");
+    LocalDateTime to = LocalDateTime.parse("2024-08-15T12:00:00");
+    when(bookingService.getBookingStateVersion()).thenReturn(OptionalLong.of(new BookingStateVersion().get()));
+    when(bookingService.getConferenceRoomBookings(from, to)).thenReturn(List.of());
+
+    String eTag = mockMvc.perform(get("/api/conference-room/bookings")
+            .param("from", from.toString())
+            .param("to", to.toString()))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader("ETag");
+
+    when(bookingService.getBookingStateVersion()).thenReturn(OptionalLong.of(new BookingStateVersion().get()));
+    mockMvc.perform(get("/api/conference-room/bookings")
+            .param("from", from.toString())
+            .param("to", to.toString())
+            .header("If-None-Match", eTag))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", not(eTag)));
+  }
+
+  @Test
+  void shouldGetNotModifiedWithoutComputingConferenceRoomBookings() throws Exception {
+    LocalDateTime from = LocalDateTime.parse("2024-08-14T10:00:00");
+    LocalDateTime to = LocalDateTime.parse("2024-08-14T12:00:00");
+    when(bookingService.getBookingStateVersion()).thenReturn(OptionalLong.of(42));
+
+    mockMvc.perform(get("/api/conference-room/bookings")
+            .param("from", from.toString())
+            .param("to", to.toString())
+            .header("If-None-Match", "\"42\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", "\"42\""))
+        .andExpect(content().string(""));
+
+    verify(bookingService, never()).getConferenceRoomBookings(from, to);
+  }
+
+  @Test
+  void shouldGetConferenceRoomBookingsPage() throws Exception {
+    LocalDateTime from = LocalDateTime.parse("2024-08-12T10:00:00");
+    LocalDateTime to = LocalDateTime.parse("2024-08-12T12:00:00");
+    BookingCursor after = new BookingCursor(LocalDateTime.parse("2024-08-12T09:00:00"), 3L);
+
+    when(bookingService.getConferenceRoomBookings(from, to, after, 1))
+        .thenReturn(List.of(new ConferenceRoomBookingSummary(7L, from, to, "Room A")));
+
+    mockMvc.perform(get("/api/conference-room/bookings")
+            .param("from", from.toString())
+            .param("to", to.toString())
+            .param("limit", "1")
+            .param("cursor", BookingMapper.mapCursor(after)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.bookings", hasSize(1)))
+        .andExpect(jsonPath("$.bookings[0].conferenceRoom", is("Room A")))
+        .andExpect(jsonPath("$.nextCursor", is(BookingMapper.mapCursor(new BookingCursor(from, 7L)))));
+  }
+
+  @Test
+  void shouldGetBadRequestOnInvalidCursor() throws Exception {
+    mockMvc.perform(get("/api/conference-room/bookings")
+            .param("from", "2024-08-12T10:00:00")
+            .param("to", "2024-08-12T12:00:00")
+            .param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldStreamConferenceRoomBookings() throws Exception {
+    LocalDateTime from = LocalDateTime.parse("2024-08-12T10:00:00");
+    LocalDateTime to = LocalDateTime.parse("2024-08-12T12:00:00");
+
+    doAnswer(invocation -> {
+      Consumer<ConferenceRoomBookingSummary> consumer = invocation.getArgument(2);
+      consumer.accept(new ConferenceRoomBookingSummary(1L, from, to, "Room A"));
+      consumer.accept(new ConferenceRoomBookingSummary(2L, from, to, "Room B"));
+      return null;
+    }).when(bookingService).streamConferenceRoomBookings(eq(from), eq(to), any());
+
+    MvcResult mvcResult = mockMvc.perform(get("/api/conference-room/bookings/stream")
+            .param("from", from.toString())
+            .param("to", to.toString()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson"))
+        .andExpect(content().string(
+            "{\"from\":\"2024-08-12T10:00:00\",\"to\":\"2024-08-12T12:00:00\",\"conferenceRoom\":\"Room A\"}\n"
+                + "{\"from\":\"2024-08-12T10:00:00\",\"to\":\"2024-08-12T12:00:00\",\"conferenceRoom\":\"Room B\"}\n"));
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomImportResult;
+import com.example.conferenceroombooking.core.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@AutoConfigureMockMvc
+class ConferenceRoomControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  BookingService bookingService;
+
+  @Test
+  void shouldImportConferenceRoomsFromJson() throws Exception {
+    when(bookingService.importConferenceRooms(anyList())).thenReturn(new ConferenceRoomImportResult(1, 1));
+
+    mockMvc.perform(post("/api/admin/conference-rooms")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"conferenceRooms\":[{\"name\":\"Focus\",\"maxCapacity\":4},{\"name\":\"Amaze\",\"maxCapacity\":3}]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported", is(1)))
+        .andExpect(jsonPath("$.skipped", is(1)));
+    verify(bookingService).importConferenceRooms(argThat(conferenceRooms ->
+        conferenceRooms.stream().map(ConferenceRoom::getName).toList().equals(List.of("Focus", "Amaze"))));
+  }
+
+  @Test
+  void shouldImportConferenceRoomsFromCsv() throws Exception {
+    when(bookingService.importConferenceRooms(anyList())).thenReturn(new ConferenceRoomImportResult(2, 0));
+
+    mockMvc.perform(post("/api/admin/conference-rooms")
+            .contentType("text/csv")
+            .content("name,maxCapacity\nFocus, 4\nBoard room, east wing,16\n"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported", is(2)));
+    verify(bookingService).importConferenceRooms(argThat(conferenceRooms ->
+        conferenceRooms.stream().map(conferenceRoom -> conferenceRoom.getName() + ":" + conferenceRoom.getMaxCapacity()).toList()
+            .equals(List.of("Focus:4", "Board room, east wing:16"))));
+  }
+
+  @Test
+  void shouldGetBadRequestForMalformedCsv() throws Exception {
+    mockMvc.perform(post("/api/admin/conference-rooms")
+            .contentType("text/csv")
+            .content("Focus,many\n"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().string("Line 1 has no valid maxCapacity"));
+    verify(bookingService, never()).importConferenceRooms(anyList());
+  }
+}
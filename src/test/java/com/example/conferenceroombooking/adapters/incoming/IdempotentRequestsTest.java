@@ -0,0 +1,82 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.config.IdempotencyProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotentRequestsTest {
+
+  private final Clock clock = mock(Clock.class);
+  private final IdempotentRequests idempotentRequests = new IdempotentRequests(new IdempotencyProperties(Duration.ofHours(1), 2), clock);
+
+  @BeforeEach
+  void setUp() {
+    when(clock.instant()).thenReturn(Instant.parse("2024-08-12T08:00:00Z"));
+  }
+
+  @Test
+  void shouldCoalesceConcurrentDuplicatesOntoOneExecution() throws Exception {
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> idempotentRequests.execute("key", "request", () -> {
+      executions.incrementAndGet();
+      started.countDown();
+      await(release);
+      return "booked";
+    }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<String> retry = CompletableFuture.supplyAsync(() -> idempotentRequests.execute("key", "request", () -> {
+      executions.incrementAndGet();
+      return "booked again";
+    }));
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("booked");
+    assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo("booked");
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  void shouldExecuteAgainAfterUnexpectedFailure() {
+    assertThatThrownBy(() -> idempotentRequests.execute("key", "request", () -> {
+      throw new IllegalStateException("Database down");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(idempotentRequests.execute("key", "request", () -> "booked")).isEqualTo("booked");
+  }
+
+  @Test
+  void shouldForgetOldestKeysBeyondMaxKeys() {
+    Instant now = Instant.parse("2024-08-12T08:00:00Z");
+    when(clock.instant()).thenReturn(now, now.plusSeconds(1), now.plusSeconds(2), now.plusSeconds(3), now.plusSeconds(4));
+    idempotentRequests.execute("first", "request", () -> "first");
+    idempotentRequests.execute("second", "request", () -> "second");
+    idempotentRequests.execute("third", "request", () -> "third");
+
+    assertThat(idempotentRequests.execute("third", "request", () -> "executed again")).isEqualTo("third");
+    assertThat(idempotentRequests.execute("first", "request", () -> "executed again")).isEqualTo("executed again");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
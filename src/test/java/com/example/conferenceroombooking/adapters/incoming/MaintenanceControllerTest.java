@@ -0,0 +1,83 @@
+package com.example.conferenceroombooking.adapters.incoming;
+
+import com.example.conferenceroombooking.core.domain.MaintenanceWindow;
+import com.example.conferenceroombooking.core.service.MaintenanceWindows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@AutoConfigureMockMvc
+class MaintenanceControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MaintenanceWindows maintenanceWindows;
+
+  private List<MaintenanceWindow> configured;
+
+  @AfterEach
+  void restoreMaintenanceWindows() {
+    if (configured != null) {
+      maintenanceWindows.replace(configured);
+    }
+  }
+
+  @Test
+  void shouldGetConfiguredMaintenanceWindows() throws Exception {
+    mockMvc.perform(get("/api/admin/maintenance-windows"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.maintenanceWindows", hasSize(3)))
+        .andExpect(jsonPath("$.maintenanceWindows[0].start", is("09:00:00")))
+        .andExpect(jsonPath("$.maintenanceWindows[0].end", is("09:15:00")))
+        .andExpect(jsonPath("$.maintenanceWindows[0].days", empty()));
+  }
+
+  @Test
+  void shouldReplaceMaintenanceWindows() throws Exception {
+    configured = maintenanceWindows.getMaintenanceWindows();
+    String request = """
+        {"maintenanceWindows": [{"start": "10:00", "end": "10:30", "days": ["MONDAY"], "conferenceRooms": ["Amaze"]}]}
+        """;
+
+    mockMvc.perform(put("/api/admin/maintenance-windows").contentType(MediaType.APPLICATION_JSON).content(request))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.maintenanceWindows", hasSize(1)))
+        .andExpect(jsonPath("$.maintenanceWindows[0].days", contains("MONDAY")))
+        .andExpect(jsonPath("$.maintenanceWindows[0].conferenceRooms", contains("Amaze")));
+
+    assertThat(maintenanceWindows.getSchedule().isBlocked("Amaze",
+        LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T10:15:00"))).isTrue();
+    assertThat(maintenanceWindows.getSchedule().isBlocked(
+        LocalDateTime.parse("2024-08-12T09:00:00"), LocalDateTime.parse("2024-08-12T09:15:00"))).isFalse();
+  }
+
+  @Test
+  void shouldRejectInvalidMaintenanceWindow() throws Exception {
+    String request = """
+        {"maintenanceWindows": [{"start": "10:30", "end": "10:00"}]}
+        """;
+
+    mockMvc.perform(put("/api/admin/maintenance-windows").contentType(MediaType.APPLICATION_JSON).content(request))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().string(containsString("must end after it starts")));
+    assertThat(maintenanceWindows.getMaintenanceWindows()).hasSize(3);
+  }
+}
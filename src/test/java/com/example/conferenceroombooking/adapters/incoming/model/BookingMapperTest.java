@@ -1,14 +1,18 @@
 package com.example.conferenceroombooking.adapters.incoming.model;
 
 import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.BookingCursor;
 import com.example.conferenceroombooking.core.domain.ConferenceRoom;
 import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class BookingMapperTest {
 
@@ -62,4 +66,40 @@ class BookingMapperTest {
     assertThat(availabilityResponse.conferenceRooms())
         .containsExactlyInAnyOrder("Room A", "Room B");
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldMapBookingCursorBothWays() {
+    BookingCursor bookingCursor = new BookingCursor(LocalDateTime.parse("2024-08-12T10:00:00"), 42L);
+
+    assertThat(BookingMapper.mapCursor(BookingMapper.mapCursor(bookingCursor))).isEqualTo(bookingCursor);
+    assertThat(BookingMapper.mapCursor((String) null)).isNull();
+  }
+
+  @Test
+  void shouldRejectMalformedBookingCursor() {
+    assertThatThrownBy(() -> BookingMapper.mapCursor("not-a-cursor"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Invalid cursor");
+  }
+
+  @Test
+  void shouldOnlyMapNextCursorForFullPage() {
+    ConferenceRoomBookingSummary conferenceRoomBooking = new ConferenceRoomBookingSummary(
+        42L, LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T12:00:00"), "Room A");
+
+    assertThat(BookingMapper.mapBookings(List.of(conferenceRoomBooking), 1).nextCursor())
+        .isEqualTo(BookingMapper.mapCursor(BookingCursor.of(conferenceRoomBooking)));
+    assertThat(BookingMapper.mapBookings(List.of(conferenceRoomBooking), 2).nextCursor()).isNull();
+  }
+
+  @Test
+  void shouldMapSlotsToBase64Bitmap() {
+    long[] slots = new long[2];
+    slots[0] = 1L | 1L << 9 | 1L << 63;
+    slots[1] = 1L << 31;
+
+    byte[] bytes = Base64.getUrlDecoder().decode(BookingMapper.mapSlots(slots, 96));
+
+    assertThat(bytes).containsExactly(1, 2, 0, 0, 0, 0, 0, (byte) 0x80, 0, 0, 0, (byte) 0x80);
+  }
+}
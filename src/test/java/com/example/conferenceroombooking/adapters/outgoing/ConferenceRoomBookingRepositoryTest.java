@@ -0,0 +1,76 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+class ConferenceRoomBookingRepositoryTest {
+
+  @Autowired
+  private ConferenceRoomBookingRepository conferenceRoomBookingRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Test
+  void shouldRejectOverlappingBookingOfSameConferenceRoom() {
+    testEntityManager.persistAndFlush(booking(1L, "Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+
+    assertThatThrownBy(() -> testEntityManager.persistAndFlush(booking(1L, "Amaze", "2024-08-12T11:00:00", "2024-08-12T12:00:00")))
+        .hasStackTraceContaining("overlaps booking");
+  }
+
+  @Test
+  void shouldAcceptBookingsThatDoNotOverlap() {
+    testEntityManager.persistAndFlush(booking(1L, "Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+    testEntityManager.persistAndFlush(booking(1L, "Amaze", "2024-08-12T11:01:00", "2024-08-12T12:00:00"));
+    testEntityManager.persistAndFlush(booking(2L, "Beauty", "2024-08-12T10:30:00", "2024-08-12T11:30:00"));
+
+    assertThat(conferenceRoomBookingRepository.findConferenceRoomConflicts(
+        LocalDateTime.parse("2024-08-12T11:00:00"), LocalDateTime.parse("2024-08-12T11:00:00")))
+        .extracting(ConferenceRoomBookingSummary::conferenceRoom)
+        .containsExactlyInAnyOrder("Amaze", "Beauty");
+  }
+
+  @Test
+  void shouldListBookingsAsSummaries() {
+    ConferenceRoomBooking amaze = testEntityManager.persistAndFlush(booking(1L, "Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+    ConferenceRoomBooking beauty = testEntityManager.persistAndFlush(booking(2L, "Beauty", "2024-08-12T10:30:00", "2024-08-12T11:30:00"));
+    testEntityManager.clear();
+
+    List<ConferenceRoomBookingSummary> conferenceRoomBookings = conferenceRoomBookingRepository.findConferenceRoomConflicts(
+        LocalDateTime.parse("2024-08-12T00:00:00"), LocalDateTime.parse("2024-08-13T00:00:00"), PageRequest.ofSize(10));
+
+    assertThat(conferenceRoomBookings)
+        .extracting(ConferenceRoomBookingSummary::id, ConferenceRoomBookingSummary::conferenceRoom)
+        .containsExactly(tuple(amaze.getId(), "Amaze"), tuple(beauty.getId(), "Beauty"));
+  }
+
+  @Test
+  void shouldRejectBookingOfUnknownConferenceRoom() {
+    assertThatThrownBy(() -> testEntityManager.persistAndFlush(booking(99L, "Unknown", "2024-08-12T10:00:00", "2024-08-12T11:00:00")))
+        .hasStackTraceContaining("FK_CONFERENCE_ROOM_BOOKINGS_CONFERENCE_ROOM");
+  }
+
+  private static ConferenceRoomBooking booking(Long conferenceRoomId, String conferenceRoom, String from, String to) {
+    return ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse(from))
+        .toTimestamp(LocalDateTime.parse(to))
+        .numberOfParticipants(2)
+        .conferenceRoomId(conferenceRoomId)
+        .conferenceRoom(conferenceRoom)
+        .build();
+  }
+}
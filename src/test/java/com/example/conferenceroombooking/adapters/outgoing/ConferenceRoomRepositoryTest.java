@@ -0,0 +1,63 @@
+package com.example.conferenceroombooking.adapters.outgoing;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ConferenceRoomRepositoryTest {
+
+  @Autowired
+  private ConferenceRoomRepository conferenceRoomRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
+  @Test
+  void shouldFindRoomsWithCapacityAndWithoutOverlappingBooking() {
+    testEntityManager.persistAndFlush(booking(2L, "Beauty", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+    testEntityManager.persistAndFlush(booking(3L, "Inspire", "2024-08-11T10:00:00", "2024-08-11T11:00:00"));
+    testEntityManager.persistAndFlush(booking(4L, "Strive", "2024-08-12T11:30:00", "2024-08-12T12:00:00"));
+
+    assertThat(conferenceRoomRepository.findAvailableConferenceRooms(
+        LocalDateTime.parse("2024-08-12T10:30:00"), LocalDateTime.parse("2024-08-12T11:00:00"), 5))
+        .extracting(ConferenceRoom::getName)
+        .containsExactly("Inspire", "Strive");
+  }
+
+  @Test
+  void shouldOnlyInsertRoomsWhoseNamesAreNotTaken() {
+    List<ConferenceRoom> conferenceRooms = new ArrayList<>(IntStream.range(0, 120)
+        .mapToObj(i -> ConferenceRoom.builder().name("Import " + i).maxCapacity(4).build())
+        .toList());
+    conferenceRooms.add(ConferenceRoom.builder().name("Amaze").maxCapacity(50).build());
+
+    List<ConferenceRoom> inserted = conferenceRoomRepository.insertNewConferenceRooms(conferenceRooms);
+
+    assertThat(inserted).hasSize(120).allSatisfy(conferenceRoom -> assertThat(conferenceRoom.getId()).isNotNull());
+    assertThat(conferenceRoomRepository.count()).isEqualTo(124);
+    assertThat(conferenceRoomRepository.findAvailableConferenceRooms(
+        LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T11:00:00"), 21))
+        .isEmpty();
+  }
+
+  private static ConferenceRoomBooking booking(Long conferenceRoomId, String conferenceRoom, String from, String to) {
+    return ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse(from))
+        .toTimestamp(LocalDateTime.parse(to))
+        .numberOfParticipants(2)
+        .conferenceRoomId(conferenceRoomId)
+        .conferenceRoom(conferenceRoom)
+        .build();
+  }
+}
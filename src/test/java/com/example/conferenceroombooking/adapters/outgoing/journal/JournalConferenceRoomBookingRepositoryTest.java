@@ -0,0 +1,160 @@
+package com.example.conferenceroombooking.adapters.outgoing.journal;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class JournalConferenceRoomBookingRepositoryTest {
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  void shouldRecoverBookingsFromJournal() throws IOException {
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      repository.save(booking("Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+      ConferenceRoomBooking deleted = repository.save(booking("Amaze", "2024-08-12T12:00:00", "2024-08-12T13:00:00"));
+      repository.saveAll(List.of(booking("Beauty", "2024-08-12T10:00:00", "2024-08-12T11:00:00")));
+      repository.delete(deleted);
+    }
+
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      assertThat(repository.findAll())
+          .extracting(ConferenceRoomBooking::getConferenceRoom, ConferenceRoomBooking::getFromTimestamp)
+          .containsExactly(
+              tuple("Amaze", LocalDateTime.parse("2024-08-12T10:00:00")),
+              tuple("Beauty", LocalDateTime.parse("2024-08-12T10:00:00")));
+      assertThat(repository.save(booking("Inspire", "2024-08-12T10:00:00", "2024-08-12T11:00:00")).getId()).isEqualTo(4);
+    }
+  }
+
+  @Test
+  void shouldRecoverBookingsFromSnapshotAndJournalTail() throws IOException {
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      repository.save(booking("Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+      repository.save(booking("Beauty", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+      repository.snapshot();
+      repository.save(booking("Inspire", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+    }
+
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.map(file -> file.getFileName().toString()))
+          .containsExactlyInAnyOrder("snapshot-00000000000000000002.bin", "journal-00000000000000000002.log");
+    }
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      assertThat(repository.count()).isEqualTo(3);
+      assertThat(repository.findConferenceRoomConflicts(LocalDateTime.parse("2024-08-12T10:30:00"), LocalDateTime.parse("2024-08-12T10:30:00")))
+          .extracting(ConferenceRoomBookingSummary::conferenceRoom)
+          .containsExactly("Amaze", "Beauty", "Inspire");
+    }
+  }
+
+  @Test
+  void shouldIgnoreTornRecordAtEndOfJournal() throws IOException {
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      repository.save(booking("Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+    }
+    Files.write(directory.resolve("journal-00000000000000000001.log"), new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      assertThat(repository.count()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldDropWholeBatchWhenItsRecordIsTorn() throws IOException {
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      repository.save(booking("Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+      repository.saveAll(List.of(
+          booking("Beauty", "2024-08-12T10:00:00", "2024-08-12T11:00:00"),
+          booking("Inspire", "2024-08-12T10:00:00", "2024-08-12T11:00:00"),
+          booking("Strive", "2024-08-12T10:00:00", "2024-08-12T11:00:00")));
+    }
+    Path segment = directory.resolve("journal-00000000000000000001.log");
+    Files.write(segment, Arrays.copyOf(Files.readAllBytes(segment), (int) Files.size(segment) - 10));
+
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      assertThat(repository.findAll()).extracting(ConferenceRoomBooking::getConferenceRoom).containsExactly("Amaze");
+    }
+  }
+
+  @Test
+  void shouldRejectOverlappingBookingOfSameConferenceRoom() throws IOException {
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      repository.save(booking("Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+
+      assertThatThrownBy(() -> repository.saveAll(List.of(
+          booking("Beauty", "2024-08-12T10:00:00", "2024-08-12T11:00:00"),
+          booking("Amaze", "2024-08-12T11:00:00", "2024-08-12T12:00:00"))))
+          .isInstanceOf(DataIntegrityViolationException.class)
+          .hasMessageContaining("overlaps booking 1 of conference room Amaze");
+      assertThat(repository.count()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldKeepBookingsUnchangedWhenJournalCannotBeAppended() throws IOException {
+    JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000);
+    ConferenceRoomBooking kept = repository.save(booking("Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"));
+    repository.close();
+
+    assertThatThrownBy(() -> repository.save(booking("Beauty", "2024-08-12T10:00:00", "2024-08-12T11:00:00")))
+        .isInstanceOf(DataAccessResourceFailureException.class);
+    assertThatThrownBy(() -> repository.deleteById(kept.getId()))
+        .isInstanceOf(DataAccessResourceFailureException.class);
+    assertThatThrownBy(repository::deleteAll)
+        .isInstanceOf(DataAccessResourceFailureException.class);
+
+    assertThat(repository.findAll()).extracting(ConferenceRoomBooking::getConferenceRoom).containsExactly("Amaze");
+    assertThat(repository.findConferenceRoomConflicts(LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T11:00:00")))
+        .containsExactly(ConferenceRoomBookingSummary.of(kept));
+  }
+
+  @Test
+  void shouldPageConflictsByStartAndId() throws IOException {
+    try (JournalConferenceRoomBookingRepository repository = new JournalConferenceRoomBookingRepository(directory, 1000)) {
+      repository.saveAll(List.of(
+          booking("Amaze", "2024-08-12T10:00:00", "2024-08-12T11:00:00"),
+          booking("Beauty", "2024-08-12T10:00:00", "2024-08-12T11:00:00"),
+          booking("Inspire", "2024-08-12T09:00:00", "2024-08-12T10:30:00"),
+          booking("Strive", "2024-08-12T11:30:00", "2024-08-12T12:00:00")));
+      LocalDateTime from = LocalDateTime.parse("2024-08-12T10:00:00");
+      LocalDateTime to = LocalDateTime.parse("2024-08-12T11:00:00");
+
+      List<ConferenceRoomBookingSummary> firstPage = repository.findConferenceRoomConflicts(from, to, PageRequest.ofSize(2));
+      ConferenceRoomBookingSummary last = firstPage.get(1);
+
+      assertThat(firstPage).extracting(ConferenceRoomBookingSummary::conferenceRoom).containsExactly("Inspire", "Amaze");
+      assertThat(repository.findConferenceRoomConflictsAfter(from, to, last.fromTimestamp(), last.id(), PageRequest.ofSize(2)))
+          .extracting(ConferenceRoomBookingSummary::conferenceRoom)
+          .containsExactly("Beauty");
+    }
+  }
+
+  private static ConferenceRoomBooking booking(String conferenceRoom, String from, String to) {
+    return ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse(from))
+        .toTimestamp(LocalDateTime.parse(to))
+        .numberOfParticipants(2)
+        .conferenceRoomId(1L)
+        .conferenceRoom(conferenceRoom)
+        .build();
+  }
+}
@@ -0,0 +1,99 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.AvailabilityChange;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.Recurrence;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityChangeFeedTest {
+
+  private final AvailabilityChangeFeed availabilityChangeFeed = new AvailabilityChangeFeed(2, 3, Duration.ofMillis(10));
+
+  @Test
+  void shouldFanOutChangesToEverySubscriber() throws InterruptedException {
+    AvailabilityChangeFeed.Subscription first = availabilityChangeFeed.subscribe().orElseThrow();
+    AvailabilityChangeFeed.Subscription second = availabilityChangeFeed.subscribe().orElseThrow();
+
+    availabilityChangeFeed.booked(booking("Room A"));
+
+    assertThat(first.poll()).extracting(AvailabilityChange::type, AvailabilityChange::conferenceRoom)
+        .containsExactly(AvailabilityChange.Type.BOOKED, "Room A");
+    assertThat(second.poll()).extracting(AvailabilityChange::type, AvailabilityChange::conferenceRoom)
+        .containsExactly(AvailabilityChange.Type.BOOKED, "Room A");
+    assertThat(first.poll()).isNull();
+  }
+
+  @Test
+  void shouldPublishRuleOfRecurringBooking() throws InterruptedException {
+    AvailabilityChangeFeed.Subscription subscription = availabilityChangeFeed.subscribe().orElseThrow();
+
+    availabilityChangeFeed.bookedRecurring(RecurringConferenceRoomBooking.builder()
+        .startTime(LocalTime.of(10, 0))
+        .endTime(LocalTime.of(11, 0))
+        .firstDay(LocalDate.parse("2024-08-12"))
+        .lastDay(LocalDate.parse("2024-12-30"))
+        .recurrence(Recurrence.WEEKLY)
+        .conferenceRoom("Room A")
+        .build());
+
+    assertThat(subscription.poll()).isEqualTo(new AvailabilityChange(1, AvailabilityChange.Type.RECURRING_BOOKED, "Room A",
+        LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T11:00:00"), Recurrence.WEEKLY,
+        LocalDate.parse("2024-12-30")));
+  }
+
+  @Test
+  void shouldReplaceChangesOfSubscriberThatFellBehindWithResync() throws InterruptedException {
+    AvailabilityChangeFeed.Subscription slow = availabilityChangeFeed.subscribe().orElseThrow();
+    AvailabilityChangeFeed.Subscription fast = availabilityChangeFeed.subscribe().orElseThrow();
+
+    availabilityChangeFeed.booked(booking("Room A"));
+    assertThat(fast.poll().conferenceRoom()).isEqualTo("Room A");
+    availabilityChangeFeed.booked(booking("Room B"));
+    availabilityChangeFeed.maintenanceChanged();
+
+    assertThat(slow.poll().type()).isEqualTo(AvailabilityChange.Type.RESYNC);
+    assertThat(slow.poll()).isNull();
+    assertThat(fast.poll().conferenceRoom()).isEqualTo("Room B");
+    assertThat(fast.poll().type()).isEqualTo(AvailabilityChange.Type.MAINTENANCE);
+  }
+
+  @Test
+  void shouldStopDeliveringToClosedSubscription() throws InterruptedException {
+    AvailabilityChangeFeed.Subscription subscription = availabilityChangeFeed.subscribe().orElseThrow();
+
+    subscription.close();
+    availabilityChangeFeed.booked(booking("Room A"));
+
+    assertThat(subscription.isClosed()).isTrue();
+    assertThat(subscription.poll()).isNull();
+    assertThat(availabilityChangeFeed.getSubscriberCount()).isZero();
+  }
+
+  @Test
+  void shouldTurnAwaySubscribersBeyondTheLimit() {
+    AvailabilityChangeFeed.Subscription first = availabilityChangeFeed.subscribe().orElseThrow();
+    availabilityChangeFeed.subscribe().orElseThrow();
+    availabilityChangeFeed.subscribe().orElseThrow();
+
+    assertThat(availabilityChangeFeed.subscribe()).isEmpty();
+    first.close();
+    assertThat(availabilityChangeFeed.subscribe()).isPresent();
+    assertThat(availabilityChangeFeed.getSubscriberCount()).isEqualTo(3);
+  }
+
+  private static ConferenceRoomBooking booking(String conferenceRoom) {
+    return ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse("2024-08-12T10:00:00"))
+        .toTimestamp(LocalDateTime.parse("2024-08-12T11:00:00"))
+        .conferenceRoom(conferenceRoom)
+        .build();
+  }
+}
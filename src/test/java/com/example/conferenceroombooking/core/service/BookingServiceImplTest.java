@@ -2,27 +2,47 @@ package com.example.conferenceroombooking.core.service;
 
 import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
 import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomRepository;
+import com.example.conferenceroombooking.adapters.outgoing.RecurringConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.core.domain.AvailabilityChange;
+import com.example.conferenceroombooking.core.domain.AvailableSlot;
+import com.example.conferenceroombooking.core.domain.BatchBookingResult;
+import com.example.conferenceroombooking.core.domain.BatchBookingStatus;
 import com.example.conferenceroombooking.core.domain.Booking;
 import com.example.conferenceroombooking.core.domain.ConferenceRoom;
 import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBookingSummary;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomImportResult;
+import com.example.conferenceroombooking.core.domain.DayAvailability;
+import com.example.conferenceroombooking.core.domain.MaintenanceWindow;
 import com.example.conferenceroombooking.core.domain.NoConferenceRoomAvailableException;
+import com.example.conferenceroombooking.core.domain.Recurrence;
+import com.example.conferenceroombooking.core.domain.RecurringBooking;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -38,11 +58,42 @@ class BookingServiceImplTest {
   @Mock
   private ConferenceRoomBookingRepository conferenceRoomBookingRepository;
 
-  @InjectMocks
+  @Mock
+  private RecurringConferenceRoomBookingRepository recurringConferenceRoomBookingRepository;
+
+  private final ConferenceRoomCatalog conferenceRoomCatalog = new ConferenceRoomCatalog();
+
+  private final ConferenceRoomBookingIndex conferenceRoomBookingIndex = new ConferenceRoomBookingIndex();
+
+  private final AvailabilityChangeFeed availabilityChangeFeed = new AvailabilityChangeFeed(16, 16, Duration.ofMillis(10));
+
+  private final BookingStateVersion bookingStateVersion = new BookingStateVersion();
+
+  private final ConferenceRoomReservations conferenceRoomReservations = new ConferenceRoomReservations(conferenceRoomBookingIndex);
+
+  private final MaintenanceWindows maintenanceWindows = new MaintenanceWindows(List.of(
+      new MaintenanceWindow(LocalTime.of(9, 0), LocalTime.of(9, 15)),
+      new MaintenanceWindow(LocalTime.of(13, 0), LocalTime.of(13, 15)),
+      new MaintenanceWindow(LocalTime.of(17, 0), LocalTime.of(17, 15))), availabilityChangeFeed, bookingStateVersion);
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   private BookingServiceImpl bookingServiceImpl;
 
+  @BeforeEach
+  void setUp() {
+    bookingServiceImpl = new BookingServiceImpl(clock, conferenceRoomRepository, conferenceRoomBookingRepository,
+        recurringConferenceRoomBookingRepository,
+        conferenceRoomCatalog, conferenceRoomBookingIndex, conferenceRoomReservations,
+        new ClusterConferenceRoomReservations(false, null, conferenceRoomBookingRepository, null, conferenceRoomBookingIndex,
+            conferenceRoomReservations),
+        new ConferenceRoomBookingWriter(conferenceRoomBookingRepository),
+        maintenanceWindows, availabilityChangeFeed, bookingStateVersion,
+        new BookingMetrics(meterRegistry, conferenceRoomCatalog, conferenceRoomBookingIndex));
+  }
+
   @Test
-  void shouldBookConferenceRoom() {
+  void shouldBookConferenceRoom() throws InterruptedException {
     Booking booking = Booking.builder()
         .from(LocalDateTime.parse("2024-08-12T10:00:00"))
         .to(LocalDateTime.parse("2024-08-12T12:00:00"))
@@ -52,19 +103,26 @@ class BookingServiceImplTest {
     ConferenceRoom conferenceRoomB = ConferenceRoom.builder().name("Room B").maxCapacity(20).build();
     LocalDateTime now = LocalDateTime.parse("2024-08-12T10:00:00");
 
-    when(conferenceRoomRepository.findAll()).thenReturn(List.of(conferenceRoomA, conferenceRoomB));
+    conferenceRoomCatalog.load(List.of(conferenceRoomA, conferenceRoomB));
+
     when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
     when(clock.getZone()).thenReturn(ZoneOffset.UTC);
-    when(conferenceRoomRepository.findAll()).thenReturn(List.of(conferenceRoomA, conferenceRoomB));
     when(conferenceRoomBookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    AvailabilityChangeFeed.Subscription subscription = availabilityChangeFeed.subscribe().orElseThrow();
+    long version = bookingStateVersion.get();
 
     ConferenceRoomBooking actual = bookingServiceImpl.bookConferenceRoom(booking);
 
+    assertThat(bookingServiceImpl.getBookingStateVersion()).hasValue(version + 1);
+    assertThat(subscription.poll()).isEqualTo(
+        new AvailabilityChange(1, AvailabilityChange.Type.BOOKED, "Room B", booking.from(), booking.to(), null, null));
     assertThat(actual).isNotNull();
     assertThat(actual.getFromTimestamp()).isEqualTo(booking.from());
     assertThat(actual.getToTimestamp()).isEqualTo(booking.to());
     assertThat(actual.getNumberOfParticipants()).isEqualTo(booking.numberOfParticipants());
     assertThat(actual.getConferenceRoom()).isEqualTo(conferenceRoomB.getName());
+    assertThat(meterRegistry.get("booking.bookings").tag("outcome", "booked").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("booking.operations").tag("operation", "book").timer().count()).isEqualTo(1);
   }
 
   @Test
@@ -77,14 +135,128 @@ class BookingServiceImplTest {
     ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
     ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(15).build();
     LocalDateTime now = LocalDateTime.parse("2024-08-12T10:00:00");
+    conferenceRoomBookingIndex.load(List.of(
+        ConferenceRoomBooking.builder().fromTimestamp(booking.from()).toTimestamp(booking.to()).conferenceRoom("Room A").build(),
+        ConferenceRoomBooking.builder().fromTimestamp(booking.from()).toTimestamp(booking.to()).conferenceRoom("Room B").build()));
 
-    when(conferenceRoomRepository.findAll()).thenReturn(List.of(roomA, roomB));
+    conferenceRoomCatalog.load(List.of(roomA, roomB));
     when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
     when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 
     assertThatThrownBy(() -> bookingServiceImpl.bookConferenceRoom(booking))
         .isInstanceOf(NoConferenceRoomAvailableException.class)
         .hasMessageContaining("There is no available conference rooms given your requested time frame");
+    assertThat(meterRegistry.get("booking.bookings").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPlaceMoreBookingsThanSequentialGreedyOnBookConferenceRooms() {
+    LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:00");
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(5).build();
+    ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(20).build();
+    conferenceRoomCatalog.load(List.of(roomA, roomB));
+    List<Booking> bookings = List.of(
+        Booking.builder().from(LocalDateTime.parse("2024-08-12T11:00:00")).to(LocalDateTime.parse("2024-08-12T12:00:00")).numberOfParticipants(4).build(),
+        Booking.builder().from(LocalDateTime.parse("2024-08-12T09:30:00")).to(LocalDateTime.parse("2024-08-12T11:30:00")).numberOfParticipants(4).build(),
+        Booking.builder().from(LocalDateTime.parse("2024-08-12T09:30:00")).to(LocalDateTime.parse("2024-08-12T10:30:00")).numberOfParticipants(15).build());
+
+    when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
+    when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+    when(conferenceRoomBookingRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    List<BatchBookingResult> results = bookingServiceImpl.bookConferenceRooms(bookings);
+
+    assertThat(results).extracting(BatchBookingResult::status)
+        .containsExactly(BatchBookingStatus.BOOKED, BatchBookingStatus.BOOKED, BatchBookingStatus.BOOKED);
+    assertThat(results).extracting(result -> result.conferenceRoomBooking().getConferenceRoom())
+        .containsExactly("Room B", "Room A", "Room B");
+    assertThat(conferenceRoomBookingIndex.size()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldReportInvalidAndRejectedBookingsOnBookConferenceRooms() {
+    LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:00");
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(5).build();
+    conferenceRoomCatalog.load(List.of(roomA));
+    List<Booking> bookings = List.of(
+        Booking.builder().from(LocalDateTime.parse("2024-08-12T10:00:00")).to(LocalDateTime.parse("2024-08-12T11:00:00")).numberOfParticipants(4).build(),
+        Booking.builder().from(LocalDateTime.parse("2024-08-12T08:45:00")).to(LocalDateTime.parse("2024-08-12T09:10:00")).numberOfParticipants(4).build(),
+        Booking.builder().from(LocalDateTime.parse("2024-08-12T10:30:00")).to(LocalDateTime.parse("2024-08-12T11:30:00")).numberOfParticipants(4).build());
+
+    when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
+    when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+    when(conferenceRoomBookingRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    List<BatchBookingResult> results = bookingServiceImpl.bookConferenceRooms(bookings);
+
+    assertThat(results).extracting(BatchBookingResult::status)
+        .containsExactly(BatchBookingStatus.BOOKED, BatchBookingStatus.INVALID, BatchBookingStatus.REJECTED);
+    assertThat(results.get(1).message()).contains("Booking is within a maintenance window");
+    assertThat(results.get(2).message()).isEqualTo("There is no available conference rooms given your requested time frame");
+    assertThat(meterRegistry.get("booking.validation.failures").tag("reason", "maintenance").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("booking.bookings").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("booking.active.bookings").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldBookRecurringConferenceRoomFreeAtEveryOccurrence() throws InterruptedException {
+    LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:00");
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
+    ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(15).build();
+    conferenceRoomCatalog.load(List.of(roomA, roomB));
+    conferenceRoomBookingIndex.load(List.of(ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse("2024-08-26T10:00:00"))
+        .toTimestamp(LocalDateTime.parse("2024-08-26T10:30:00"))
+        .conferenceRoom("Room A")
+        .build()));
+    RecurringBooking recurringBooking = RecurringBooking.builder()
+        .from(LocalDateTime.parse("2024-08-12T10:00:00"))
+        .to(LocalDateTime.parse("2024-08-12T11:00:00"))
+        .recurrence(Recurrence.WEEKLY)
+        .until(LocalDate.parse("2025-08-11"))
+        .numberOfParticipants(5)
+        .build();
+
+    when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
+    when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+    when(recurringConferenceRoomBookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    AvailabilityChangeFeed.Subscription subscription = availabilityChangeFeed.subscribe().orElseThrow();
+
+    RecurringConferenceRoomBooking actual = bookingServiceImpl.bookRecurringConferenceRoom(recurringBooking);
+
+    assertThat(actual.getConferenceRoom()).isEqualTo("Room B");
+    assertThat(subscription.poll()).isEqualTo(new AvailabilityChange(1, AvailabilityChange.Type.RECURRING_BOOKED, "Room B",
+        recurringBooking.from(), recurringBooking.to(), Recurrence.WEEKLY, LocalDate.parse("2025-08-11")));
+    assertThat(bookingServiceImpl.getAvailableConferenceRooms(LocalDateTime.parse("2024-08-12T10:30:00"), LocalDateTime.parse("2024-08-12T12:00:00")))
+        .containsExactly(roomA);
+
+    when(recurringConferenceRoomBookingRepository.findRecurringConferenceRoomBookings(LocalDate.parse("2024-08-01"), LocalDate.parse("2024-08-31")))
+        .thenReturn(List.of(actual));
+
+    assertThat(bookingServiceImpl.getRecurringBookingOccurrences(LocalDateTime.parse("2024-08-01T00:00:00"), LocalDateTime.parse("2024-08-31T23:59:59")))
+        .extracting(ConferenceRoomBookingSummary::fromTimestamp)
+        .containsExactly(LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-19T10:00:00"),
+            LocalDateTime.parse("2024-08-26T10:00:00"));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenRecurringBookingRecursTooLong() {
+    LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:00");
+    conferenceRoomCatalog.load(List.of(ConferenceRoom.builder().name("Room A").maxCapacity(10).build()));
+    RecurringBooking recurringBooking = RecurringBooking.builder()
+        .from(LocalDateTime.parse("2024-08-13T10:00:00"))
+        .to(LocalDateTime.parse("2024-08-13T11:00:00"))
+        .recurrence(Recurrence.DAILY)
+        .until(LocalDate.parse("2025-08-14"))
+        .numberOfParticipants(5)
+        .build();
+
+    when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
+    when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+
+    assertThatThrownBy(() -> bookingServiceImpl.bookRecurringConferenceRoom(recurringBooking))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("2025-08-13");
   }
 
   @Test
@@ -92,20 +264,94 @@ class BookingServiceImplTest {
     LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:00");
     LocalDateTime from = LocalDateTime.parse("2024-08-12T10:00:00");
     LocalDateTime to = LocalDateTime.parse("2024-08-12T12:00:00");
-    ConferenceRoomBooking conferenceRoomBooking = ConferenceRoomBooking.builder().conferenceRoom("Room A").build();
+    ConferenceRoomBooking conferenceRoomBooking = ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse("2024-08-12T09:30:00"))
+        .toTimestamp(LocalDateTime.parse("2024-08-12T10:30:00"))
+        .conferenceRoom("Room A")
+        .build();
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
     ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(15).build();
+    conferenceRoomBookingIndex.load(List.of(conferenceRoomBooking));
 
     when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
     when(clock.getZone()).thenReturn(ZoneOffset.UTC);
-    when(conferenceRoomBookingRepository.findConferenceRoomConflicts(from, to))
-        .thenReturn(List.of(conferenceRoomBooking));
-    when(conferenceRoomRepository.findAllByNameNotIn(any())).thenReturn(List.of(roomB));
+    conferenceRoomCatalog.load(List.of(roomA, roomB));
 
     List<ConferenceRoom> availableRooms = bookingServiceImpl.getAvailableConferenceRooms(from, to);
 
     assertThat(availableRooms).containsExactlyInAnyOrder(roomB);
   }
 
+  @Test
+  void shouldSkipConferenceRoomsUnderMaintenance() {
+    LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:00");
+    LocalDateTime from = LocalDateTime.parse("2024-08-12T10:00:00");
+    LocalDateTime to = LocalDateTime.parse("2024-08-12T11:00:00");
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
+    ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(15).build();
+    conferenceRoomCatalog.load(List.of(roomA, roomB));
+    maintenanceWindows.replace(List.of(
+        new MaintenanceWindow(LocalTime.of(10, 30), LocalTime.of(12, 0), Set.of(DayOfWeek.MONDAY), Set.of("Room A"))));
+
+    when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
+    when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+    when(conferenceRoomBookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    assertThat(bookingServiceImpl.getAvailableConferenceRooms(from, to)).containsExactly(roomB);
+    assertThat(bookingServiceImpl.bookConferenceRoom(Booking.builder().from(from).to(to).numberOfParticipants(5).build())
+        .getConferenceRoom()).isEqualTo("Room B");
+    assertThat(bookingServiceImpl.getAvailableConferenceRooms(from, LocalDateTime.parse("2024-08-12T10:30:00")))
+        .containsExactly(roomA);
+  }
+
+  @Test
+  void shouldGetNextAvailableSlots() {
+    LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:20");
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
+    ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(15).build();
+    conferenceRoomCatalog.load(List.of(roomA, roomB));
+    conferenceRoomBookingIndex.load(List.of(
+        ConferenceRoomBooking.builder().fromTimestamp(LocalDateTime.parse("2024-08-12T08:00:00"))
+            .toTimestamp(LocalDateTime.parse("2024-08-12T08:40:00")).conferenceRoom("Room A").build(),
+        ConferenceRoomBooking.builder().fromTimestamp(LocalDateTime.parse("2024-08-12T07:30:00"))
+            .toTimestamp(LocalDateTime.parse("2024-08-12T09:30:00")).conferenceRoom("Room B").build()));
+
+    when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
+    when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+
+    List<AvailableSlot> slots = bookingServiceImpl.getNextAvailableSlots(null, Duration.ofMinutes(30), 5, 3);
+
+    assertThat(slots).extracting(AvailableSlot::from, slot -> slot.conferenceRoom().getName()).containsExactly(
+        tuple(LocalDateTime.parse("2024-08-12T09:15:00"), "Room A"),
+        tuple(LocalDateTime.parse("2024-08-12T09:31:00"), "Room B"),
+        tuple(LocalDateTime.parse("2024-08-12T09:45:00"), "Room A"));
+    assertThat(bookingServiceImpl.getNextAvailableSlots(null, Duration.ofMinutes(30), 12, 1))
+        .extracting(AvailableSlot::from).containsExactly(LocalDateTime.parse("2024-08-12T09:31:00"));
+    assertThatThrownBy(() -> bookingServiceImpl.getNextAvailableSlots(null, Duration.ZERO, 5, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(meterRegistry.get("booking.validation.failures").tag("reason", "duration").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldGetDayAvailabilityFromSlotGrid() {
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
+    ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(15).build();
+    conferenceRoomCatalog.load(List.of(roomA, roomB));
+    conferenceRoomBookingIndex.add(ConferenceRoomBooking.builder().fromTimestamp(LocalDateTime.parse("2024-08-12T10:00:00"))
+        .toTimestamp(LocalDateTime.parse("2024-08-12T10:20:00")).conferenceRoom("Room A").build());
+
+    DayAvailability dayAvailability = bookingServiceImpl.getDayAvailability(LocalDate.parse("2024-08-12"));
+
+    assertThat(dayAvailability.slotMinutes()).isEqualTo(15);
+    assertThat(dayAvailability.slotsPerDay()).isEqualTo(96);
+    assertThat(dayAvailability.conferenceRooms()).extracting(conferenceRoomDay -> conferenceRoomDay.conferenceRoom().getName())
+        .containsExactly("Room A", "Room B");
+    DayAvailability.ConferenceRoomDay roomADay = dayAvailability.conferenceRooms().get(0);
+    assertThat(roomADay.bookedSlots()).containsExactly(1L << 40 | 1L << 41, 0L);
+    assertThat(roomADay.maintenanceSlots()).containsExactly(1L << 36 | 1L << 52, 1L << 4);
+    assertThat(dayAvailability.conferenceRooms().get(1).bookedSlots()).containsExactly(0L, 0L);
+  }
+
   @Test
   void shouldThrowExceptionWhenInvalidBookingDateOnGetAvailableConferenceRooms() {
     LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:00");
@@ -141,12 +387,11 @@ class BookingServiceImplTest {
     ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
     ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(15).build();
 
-    when(conferenceRoomRepository.findAll()).thenReturn(List.of(roomA, roomB));
+    conferenceRoomCatalog.load(List.of(roomA, roomB));
 
     if (valid) {
       when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
       when(clock.getZone()).thenReturn(ZoneOffset.UTC);
-      when(conferenceRoomBookingRepository.findConferenceRoomConflicts(booking.from(), booking.to())).thenReturn(List.of());
       when(conferenceRoomBookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
       bookingServiceImpl.bookConferenceRoom(booking);
     } else {
@@ -162,13 +407,11 @@ class BookingServiceImplTest {
     LocalDateTime now = LocalDateTime.parse("2024-08-12T01:00:00");
     ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
 
-    when(conferenceRoomRepository.findAll()).thenReturn(List.of(roomA));
+    conferenceRoomCatalog.load(List.of(roomA));
     when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
     when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 
     if (valid) {
-      when(conferenceRoomBookingRepository.findConferenceRoomConflicts(booking.from(), booking.to()))
-          .thenReturn(List.of());
       when(conferenceRoomBookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
       bookingServiceImpl.bookConferenceRoom(booking);
     } else {
@@ -184,13 +427,11 @@ class BookingServiceImplTest {
     LocalDateTime now = LocalDateTime.parse("2024-08-12T08:00:00");
     ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(10).build();
 
-    when(conferenceRoomRepository.findAll()).thenReturn(List.of(roomA));
+    conferenceRoomCatalog.load(List.of(roomA));
     when(clock.instant()).thenReturn(now.toInstant(ZoneOffset.UTC));
     when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 
     if (valid) {
-      when(conferenceRoomBookingRepository.findConferenceRoomConflicts(booking.from(), booking.to()))
-          .thenReturn(List.of());
       when(conferenceRoomBookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
       bookingServiceImpl.bookConferenceRoom(booking);
 
@@ -229,4 +470,31 @@ class BookingServiceImplTest {
         Arguments.of(Booking.builder().from(LocalDateTime.parse("2024-08-12T09:10:00")).to(LocalDateTime.parse("2024-08-12T14:00:00")).numberOfParticipants(5).build(), false)
     );
   }
+
+  @Test
+  void shouldImportConferenceRoomsAndReloadCatalog() {
+    ConferenceRoom focus = ConferenceRoom.builder().name("Focus").maxCapacity(4).build();
+    ConferenceRoom amaze = ConferenceRoom.builder().name("Amaze").maxCapacity(3).build();
+    when(conferenceRoomRepository.insertNewConferenceRooms(List.of(focus, amaze))).thenReturn(List.of(focus));
+    when(conferenceRoomRepository.findAll()).thenReturn(List.of(focus, amaze));
+    long version = bookingStateVersion.get();
+
+    ConferenceRoomImportResult actual = bookingServiceImpl.importConferenceRooms(List.of(focus, amaze));
+
+    assertThat(actual).isEqualTo(new ConferenceRoomImportResult(1, 1));
+    assertThat(conferenceRoomCatalog.getConferenceRooms()).extracting(ConferenceRoom::getName).containsExactly("Amaze", "Focus");
+    assertThat(bookingServiceImpl.getBookingStateVersion()).hasValue(version + 1);
+  }
+
+  @Test
+  void shouldRejectImportListingConferenceRoomTwice() {
+    List<ConferenceRoom> conferenceRooms = List.of(
+        ConferenceRoom.builder().name("Focus").maxCapacity(4).build(),
+        ConferenceRoom.builder().name("Focus").maxCapacity(8).build());
+
+    assertThatThrownBy(() -> bookingServiceImpl.importConferenceRooms(conferenceRooms))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The conference room Focus is listed more than once");
+    assertThat(meterRegistry.get("booking.validation.failures").tag("reason", "conference-room").counter().count()).isEqualTo(1);
+  }
 }
@@ -0,0 +1,90 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomLocks;
+import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClusterConferenceRoomReservationsTest {
+
+  private static final Booking BOOKING = Booking.builder()
+      .from(LocalDateTime.parse("2024-08-12T10:00:00"))
+      .to(LocalDateTime.parse("2024-08-12T11:00:00"))
+      .numberOfParticipants(2)
+      .build();
+
+  private final ConferenceRoom roomA = ConferenceRoom.builder().id(1L).name("Room A").maxCapacity(5).build();
+  private final ConferenceRoom roomB = ConferenceRoom.builder().id(2L).name("Room B").maxCapacity(10).build();
+
+  private final ConferenceRoomLocks conferenceRoomLocks = mock(ConferenceRoomLocks.class);
+  private final ConferenceRoomBookingRepository conferenceRoomBookingRepository = mock(ConferenceRoomBookingRepository.class);
+  private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+  private final ConferenceRoomBookingIndex conferenceRoomBookingIndex = new ConferenceRoomBookingIndex();
+  private final ClusterConferenceRoomReservations clusterConferenceRoomReservations = new ClusterConferenceRoomReservations(
+      true, conferenceRoomLocks, conferenceRoomBookingRepository, transactionTemplate, conferenceRoomBookingIndex,
+      new ConferenceRoomReservations(conferenceRoomBookingIndex));
+
+  @BeforeEach
+  void setUp() {
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    when(conferenceRoomBookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  void shouldBookNextCandidateWhenFirstIsLockedByAnotherInstance() {
+    when(conferenceRoomLocks.tryLock(1L)).thenReturn(false);
+    when(conferenceRoomLocks.tryLock(2L)).thenReturn(true);
+
+    Optional<ConferenceRoomBooking> conferenceRoomBooking = clusterConferenceRoomReservations.book(List.of(roomA, roomB), BOOKING);
+
+    assertThat(conferenceRoomBooking).isPresent();
+    assertThat(conferenceRoomBooking.get().getConferenceRoom()).isEqualTo("Room B");
+    assertThat(conferenceRoomBookingIndex.isAvailable("Room B", BOOKING.from(), BOOKING.to())).isFalse();
+    verify(conferenceRoomLocks, never()).lock(anyLong());
+  }
+
+  @Test
+  void shouldWaitForLockedRoomWhenNoOtherCandidateIsFree() {
+    when(conferenceRoomLocks.tryLock(1L)).thenReturn(false);
+    when(conferenceRoomLocks.tryLock(2L)).thenReturn(true);
+    when(conferenceRoomLocks.isBooked(2L, BOOKING.from(), BOOKING.to())).thenReturn(true);
+
+    Optional<ConferenceRoomBooking> conferenceRoomBooking = clusterConferenceRoomReservations.book(List.of(roomA, roomB), BOOKING);
+
+    assertThat(conferenceRoomBooking).isPresent();
+    assertThat(conferenceRoomBooking.get().getConferenceRoom()).isEqualTo("Room A");
+    verify(conferenceRoomLocks).lock(1L);
+  }
+
+  @Test
+  void shouldNotTryRoomsTheIndexShowsAsBooked() {
+    conferenceRoomBookingIndex.add(ConferenceRoomBooking.builder()
+        .fromTimestamp(BOOKING.from())
+        .toTimestamp(BOOKING.to())
+        .conferenceRoom("Room A")
+        .build());
+
+    Optional<ConferenceRoomBooking> conferenceRoomBooking = clusterConferenceRoomReservations.book(List.of(roomA), BOOKING);
+
+    assertThat(conferenceRoomBooking).isEmpty();
+    verify(conferenceRoomLocks, never()).tryLock(anyLong());
+  }
+}
@@ -0,0 +1,157 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.domain.Recurrence;
+import com.example.conferenceroombooking.core.domain.RecurringConferenceRoomBooking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConferenceRoomBookingIndexTest {
+
+  @ParameterizedTest
+  @MethodSource("availabilityMethodSource")
+  void shouldResolveAvailability(String conferenceRoom, LocalDateTime from, LocalDateTime to, boolean available) {
+    for (AvailabilityMode availabilityMode : AvailabilityMode.values()) {
+      ConferenceRoomBookingIndex conferenceRoomBookingIndex = index(availabilityMode);
+
+      assertThat(conferenceRoomBookingIndex.isAvailable(conferenceRoom, from, to))
+          .as(availabilityMode.name())
+          .isEqualTo(available);
+    }
+  }
+
+  @Test
+  void shouldClearSlotsOfRemovedBookingOnly() {
+    ConferenceRoomBookingIndex conferenceRoomBookingIndex = index(AvailabilityMode.SLOT_GRID);
+    ConferenceRoomBooking adjacent = ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse("2024-08-12T11:05:00"))
+        .toTimestamp(LocalDateTime.parse("2024-08-12T11:10:00"))
+        .conferenceRoom("Room A")
+        .build();
+    conferenceRoomBookingIndex.add(adjacent);
+
+    conferenceRoomBookingIndex.remove(adjacent);
+
+    assertThat(conferenceRoomBookingIndex.isAvailable("Room A", LocalDateTime.parse("2024-08-12T11:05:00"), LocalDateTime.parse("2024-08-12T11:10:00")))
+        .isTrue();
+    assertThat(conferenceRoomBookingIndex.getSlotGrid().isFree("Room A", LocalDateTime.parse("2024-08-12T11:05:00"), LocalDateTime.parse("2024-08-12T11:10:00")))
+        .isFalse();
+    assertThat(conferenceRoomBookingIndex.getSlotGrid().isFree("Room A", LocalDateTime.parse("2024-08-12T11:15:00"), LocalDateTime.parse("2024-08-12T13:59:00")))
+        .isTrue();
+  }
+
+  @Test
+  void shouldReplaceBookingsOnReload() {
+    ConferenceRoomBookingIndex conferenceRoomBookingIndex = index(AvailabilityMode.SLOT_GRID);
+    ConferenceRoomSlotGrid loadedSlotGrid = conferenceRoomBookingIndex.getSlotGrid();
+
+    conferenceRoomBookingIndex.load(List.of(ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse("2024-08-12T15:00:00"))
+        .toTimestamp(LocalDateTime.parse("2024-08-12T16:00:00"))
+        .conferenceRoom("Room B")
+        .build()));
+
+    assertThat(conferenceRoomBookingIndex.size()).isEqualTo(1);
+    assertThat(conferenceRoomBookingIndex.isAvailable("Room A", LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T11:00:00")))
+        .isTrue();
+    assertThat(conferenceRoomBookingIndex.isAvailable("Room B", LocalDateTime.parse("2024-08-12T15:30:00"), LocalDateTime.parse("2024-08-12T15:45:00")))
+        .isFalse();
+    assertThat(loadedSlotGrid.isFree("Room A", LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T11:00:00")))
+        .as("a reader of the previous load keeps seeing it")
+        .isFalse();
+  }
+
+  @Test
+  void shouldResolveAvailabilityAgainstOccurrencesOfRecurringBookings() {
+    RecurringConferenceRoomBooking weekly = RecurringConferenceRoomBooking.builder()
+        .startTime(LocalTime.of(16, 0))
+        .endTime(LocalTime.of(17, 0))
+        .firstDay(LocalDate.parse("2024-08-12"))
+        .lastDay(LocalDate.parse("2024-12-31"))
+        .recurrence(Recurrence.WEEKLY)
+        .conferenceRoom("Room A")
+        .build();
+    for (AvailabilityMode availabilityMode : AvailabilityMode.values()) {
+      ConferenceRoomBookingIndex conferenceRoomBookingIndex = index(availabilityMode);
+      conferenceRoomBookingIndex.addRecurring(weekly);
+
+      assertThat(conferenceRoomBookingIndex.isAvailable("Room A", LocalDateTime.parse("2024-08-19T16:30:00"), LocalDateTime.parse("2024-08-19T18:00:00")))
+          .as(availabilityMode.name())
+          .isFalse();
+      assertThat(conferenceRoomBookingIndex.isAvailable("Room A", LocalDateTime.parse("2024-08-20T16:30:00"), LocalDateTime.parse("2024-08-20T18:00:00")))
+          .as(availabilityMode.name())
+          .isTrue();
+      assertThat(conferenceRoomBookingIndex.isAvailable("Room A", LocalDateTime.parse("2025-01-06T16:30:00"), LocalDateTime.parse("2025-01-06T18:00:00")))
+          .as(availabilityMode.name())
+          .isTrue();
+      assertThat(conferenceRoomBookingIndex.findConflict("Room A", LocalDateTime.parse("2024-08-12T14:30:00"), LocalDateTime.parse("2024-08-12T16:00:00")))
+          .get()
+          .extracting(ConferenceRoomBooking::getToTimestamp)
+          .isEqualTo(LocalDateTime.parse("2024-08-12T17:00:00"));
+    }
+  }
+
+  @Test
+  void shouldRejectRecurringBookingOverlappingBookingOrOtherRecurringBooking() {
+    ConferenceRoomBookingIndex conferenceRoomBookingIndex = index(AvailabilityMode.INDEX);
+    conferenceRoomBookingIndex.addRecurring(recurring(Recurrence.WEEKLY, "2024-08-13", LocalTime.of(16, 0), LocalTime.of(17, 0)));
+
+    assertThat(conferenceRoomBookingIndex.isAvailable(recurring(Recurrence.DAILY, "2024-08-12", LocalTime.of(10, 30), LocalTime.of(10, 45))))
+        .isFalse();
+    assertThat(conferenceRoomBookingIndex.isAvailable(recurring(Recurrence.DAILY, "2024-08-12", LocalTime.of(16, 30), LocalTime.of(18, 0))))
+        .isFalse();
+    assertThat(conferenceRoomBookingIndex.isAvailable(recurring(Recurrence.WEEKLY, "2024-08-14", LocalTime.of(16, 30), LocalTime.of(18, 0))))
+        .isTrue();
+    assertThat(conferenceRoomBookingIndex.isAvailable(recurring(Recurrence.DAILY, "2024-08-13", LocalTime.of(11, 30), LocalTime.of(12, 0))))
+        .isTrue();
+  }
+
+  private static RecurringConferenceRoomBooking recurring(Recurrence recurrence, String firstDay, LocalTime start, LocalTime end) {
+    return RecurringConferenceRoomBooking.builder()
+        .startTime(start)
+        .endTime(end)
+        .firstDay(LocalDate.parse(firstDay))
+        .lastDay(LocalDate.parse(firstDay).plusMonths(3))
+        .recurrence(recurrence)
+        .conferenceRoom("Room A")
+        .build();
+  }
+
+  private static ConferenceRoomBookingIndex index(AvailabilityMode availabilityMode) {
+    ConferenceRoomBookingIndex conferenceRoomBookingIndex = new ConferenceRoomBookingIndex(new ConferenceRoomSlotGrid(15), availabilityMode);
+    conferenceRoomBookingIndex.load(List.of(
+        ConferenceRoomBooking.builder()
+            .fromTimestamp(LocalDateTime.parse("2024-08-12T10:00:00"))
+            .toTimestamp(LocalDateTime.parse("2024-08-12T11:00:00"))
+            .conferenceRoom("Room A")
+            .build(),
+        ConferenceRoomBooking.builder()
+            .fromTimestamp(LocalDateTime.parse("2024-08-12T14:00:00"))
+            .toTimestamp(LocalDateTime.parse("2024-08-12T15:00:00"))
+            .conferenceRoom("Room A")
+            .build()));
+    return conferenceRoomBookingIndex;
+  }
+
+  private static Stream<Arguments> availabilityMethodSource() {
+    return Stream.of(
+        Arguments.of("Room A", LocalDateTime.parse("2024-08-12T08:00:00"), LocalDateTime.parse("2024-08-12T09:59:00"), true),
+        Arguments.of("Room A", LocalDateTime.parse("2024-08-12T08:00:00"), LocalDateTime.parse("2024-08-12T10:00:00"), false),
+        Arguments.of("Room A", LocalDateTime.parse("2024-08-12T10:15:00"), LocalDateTime.parse("2024-08-12T10:45:00"), false),
+        Arguments.of("Room A", LocalDateTime.parse("2024-08-12T11:00:00"), LocalDateTime.parse("2024-08-12T12:00:00"), false),
+        Arguments.of("Room A", LocalDateTime.parse("2024-08-12T11:01:00"), LocalDateTime.parse("2024-08-12T13:59:00"), true),
+        Arguments.of("Room A", LocalDateTime.parse("2024-08-12T09:00:00"), LocalDateTime.parse("2024-08-12T16:00:00"), false),
+        Arguments.of("Room B", LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T11:00:00"), true)
+    );
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConferenceRoomBookingWriterTest {
+
+  private static final LocalDateTime START_OF_DAY = LocalDateTime.parse("2024-08-12T00:00:00");
+
+  private final ConferenceRoomBookingRepository conferenceRoomBookingRepository = mock(ConferenceRoomBookingRepository.class);
+  private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ConferenceRoomBookingWriter conferenceRoomBookingWriter;
+
+  @BeforeEach
+  void setUp() {
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    conferenceRoomBookingWriter = new ConferenceRoomBookingWriter(conferenceRoomBookingRepository, transactionTemplate,
+        10, Duration.ofMillis(50), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    conferenceRoomBookingWriter.close();
+  }
+
+  @Test
+  void shouldStoreConcurrentBookingsInBatches() throws Exception {
+    when(conferenceRoomBookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    List<ConferenceRoomBooking> stored = saveConcurrently(30);
+
+    assertThat(stored).hasSize(30).doesNotContainNull();
+    assertThat(meterRegistry.get("booking.group.commit.size").summary().totalAmount()).isEqualTo(30);
+    assertThat(meterRegistry.get("booking.group.commit.size").summary().count()).isLessThan(30);
+  }
+
+  @Test
+  void shouldOnlyFailOffendingBookingOfFailedBatch() throws Exception {
+    ConferenceRoomBooking offending = booking(0);
+    when(conferenceRoomBookingRepository.saveAll(anyList())).thenAnswer(invocation -> {
+      if (invocation.<List<ConferenceRoomBooking>>getArgument(0).stream().anyMatch(booking -> booking == offending)) {
+        throw new DataIntegrityViolationException("Booking overlaps");
+      }
+      return invocation.getArgument(0);
+    });
+    when(conferenceRoomBookingRepository.save(any())).thenAnswer(invocation -> {
+      if (invocation.getArgument(0) == offending) {
+        throw new DataIntegrityViolationException("Booking overlaps");
+      }
+      return invocation.getArgument(0);
+    });
+
+    try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+      Future<ConferenceRoomBooking> failed = executorService.submit(() -> conferenceRoomBookingWriter.save(offending));
+      Future<ConferenceRoomBooking> stored = executorService.submit(() -> conferenceRoomBookingWriter.save(booking(1)));
+
+      assertThatThrownBy(failed::get).hasCauseInstanceOf(DataIntegrityViolationException.class);
+      assertThat(stored.get()).isNotNull();
+    }
+  }
+
+  private List<ConferenceRoomBooking> saveConcurrently(int count) throws Exception {
+    try (ExecutorService executorService = Executors.newFixedThreadPool(count)) {
+      List<Future<ConferenceRoomBooking>> futures = IntStream.range(0, count)
+          .mapToObj(i -> executorService.submit(() -> conferenceRoomBookingWriter.save(booking(i))))
+          .toList();
+      List<ConferenceRoomBooking> stored = new ArrayList<>();
+      for (Future<ConferenceRoomBooking> future : futures) {
+        stored.add(future.get());
+      }
+      return stored;
+    }
+  }
+
+  private static ConferenceRoomBooking booking(int i) {
+    return ConferenceRoomBooking.builder()
+        .fromTimestamp(START_OF_DAY.plusMinutes(i * 10L))
+        .toTimestamp(START_OF_DAY.plusMinutes(i * 10L + 5))
+        .conferenceRoom("Room A")
+        .build();
+  }
+}
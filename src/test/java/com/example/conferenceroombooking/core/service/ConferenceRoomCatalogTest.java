@@ -0,0 +1,46 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConferenceRoomCatalogTest {
+
+  private final ConferenceRoomCatalog conferenceRoomCatalog = new ConferenceRoomCatalog();
+
+  @Test
+  void shouldOrderConferenceRoomsByCapacity() {
+    conferenceRoomCatalog.load(List.of(room("Strive", 20), room("Amaze", 3), room("Inspire", 12), room("Beauty", 7)));
+
+    assertThat(conferenceRoomCatalog.getConferenceRooms())
+        .extracting(ConferenceRoom::getName)
+        .containsExactly("Amaze", "Beauty", "Inspire", "Strive");
+    assertThat(conferenceRoomCatalog.getMaxCapacity()).hasValue(20);
+  }
+
+  @Test
+  void shouldLookUpConferenceRoomsFittingCapacity() {
+    conferenceRoomCatalog.load(List.of(room("Strive", 20), room("Amaze", 3), room("Inspire", 12), room("Beauty", 7)));
+
+    assertThat(conferenceRoomCatalog.getConferenceRooms(7))
+        .extracting(ConferenceRoom::getName)
+        .containsExactly("Beauty", "Inspire", "Strive");
+    assertThat(conferenceRoomCatalog.getConferenceRooms(8))
+        .extracting(ConferenceRoom::getName)
+        .containsExactly("Inspire", "Strive");
+    assertThat(conferenceRoomCatalog.getConferenceRooms(21)).isEmpty();
+  }
+
+  @Test
+  void shouldHaveNoMaxCapacityWhenEmpty() {
+    assertThat(conferenceRoomCatalog.getMaxCapacity()).isEmpty();
+    assertThat(conferenceRoomCatalog.getConferenceRooms(1)).isEmpty();
+  }
+
+  private static ConferenceRoom room(String name, int maxCapacity) {
+    return ConferenceRoom.builder().name(name).maxCapacity(maxCapacity).build();
+  }
+}
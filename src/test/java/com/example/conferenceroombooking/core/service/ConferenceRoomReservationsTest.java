@@ -0,0 +1,112 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.Booking;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConferenceRoomReservationsTest {
+
+  private static final LocalDateTime START_OF_DAY = LocalDateTime.parse("2024-08-12T00:00:00");
+
+  private final ConferenceRoomBookingIndex conferenceRoomBookingIndex = new ConferenceRoomBookingIndex();
+  private final ConferenceRoomReservations conferenceRoomReservations = new ConferenceRoomReservations(conferenceRoomBookingIndex);
+
+  @Test
+  void shouldReserveNextCandidateWhenFirstIsBooked() {
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(5).build();
+    ConferenceRoom roomB = ConferenceRoom.builder().name("Room B").maxCapacity(10).build();
+    Booking booking = booking(600, 60);
+    conferenceRoomBookingIndex.add(ConferenceRoomBooking.builder()
+        .fromTimestamp(booking.from())
+        .toTimestamp(booking.to())
+        .conferenceRoom("Room A")
+        .build());
+
+    Optional<ConferenceRoomBooking> reservation = conferenceRoomReservations.reserve(List.of(roomA, roomB), booking);
+
+    assertThat(reservation).isPresent();
+    assertThat(reservation.get().getConferenceRoom()).isEqualTo("Room B");
+    assertThat(conferenceRoomBookingIndex.isAvailable("Room B", booking.from(), booking.to())).isFalse();
+  }
+
+  @Test
+  void shouldMakeRoomAvailableAgainOnRelease() {
+    ConferenceRoom roomA = ConferenceRoom.builder().name("Room A").maxCapacity(5).build();
+    Booking booking = booking(600, 60);
+
+    ConferenceRoomBooking reservation = conferenceRoomReservations.reserve(List.of(roomA), booking).orElseThrow();
+    conferenceRoomReservations.release(reservation);
+
+    assertThat(conferenceRoomBookingIndex.isAvailable("Room A", booking.from(), booking.to())).isTrue();
+  }
+
+  @Test
+  void shouldNeverOverlapBookingsUnderContention() throws Exception {
+    List<ConferenceRoom> conferenceRooms = IntStream.range(0, 8)
+        .mapToObj(i -> ConferenceRoom.builder().name("Room " + i).maxCapacity(4 + i * 2).build())
+        .sorted(Comparator.comparingInt(ConferenceRoom::getMaxCapacity))
+        .toList();
+    Random random = new Random(42);
+    List<Booking> bookings = IntStream.range(0, 5_000)
+        .mapToObj(i -> booking(random.nextInt(1_380), 15 + random.nextInt(46)))
+        .toList();
+    ConcurrentLinkedQueue<ConferenceRoomBooking> reservations = new ConcurrentLinkedQueue<>();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executorService = Executors.newFixedThreadPool(32);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (Booking booking : bookings) {
+        futures.add(executorService.submit(() -> {
+          start.await();
+          conferenceRoomReservations.reserve(conferenceRooms, booking).ifPresent(reservations::add);
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    assertThat(reservations).isNotEmpty();
+    Map<String, List<ConferenceRoomBooking>> reservationsByConferenceRoom = reservations.stream()
+        .collect(Collectors.groupingBy(ConferenceRoomBooking::getConferenceRoom));
+    reservationsByConferenceRoom.values().forEach(conferenceRoomBookings -> {
+      List<ConferenceRoomBooking> sorted = conferenceRoomBookings.stream()
+          .sorted(Comparator.comparing(ConferenceRoomBooking::getFromTimestamp))
+          .toList();
+      for (int i = 1; i < sorted.size(); i++) {
+        assertThat(sorted.get(i).getFromTimestamp()).isAfter(sorted.get(i - 1).getToTimestamp());
+      }
+    });
+    assertThat(conferenceRoomBookingIndex.size()).isEqualTo(reservations.size());
+  }
+
+  private static Booking booking(int startMinute, int durationMinutes) {
+    return Booking.builder()
+        .from(START_OF_DAY.plusMinutes(startMinute))
+        .to(START_OF_DAY.plusMinutes(startMinute + durationMinutes))
+        .numberOfParticipants(2)
+        .build();
+  }
+}
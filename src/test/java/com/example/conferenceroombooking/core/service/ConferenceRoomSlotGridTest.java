@@ -0,0 +1,69 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConferenceRoomSlotGridTest {
+
+  private final ConferenceRoomSlotGrid slotGrid = new ConferenceRoomSlotGrid(15);
+
+  @Test
+  void shouldMarkEverySlotTouchedByBooking() {
+    slotGrid.mark(booking("2024-08-12T10:05:00", "2024-08-12T11:00:00"));
+
+    long[] slots = slotGrid.getSlots("Room A", LocalDate.parse("2024-08-12"));
+
+    assertThat(slots).hasSize(2);
+    assertThat(slots[0]).isEqualTo(0b11111L << 40);
+  }
+
+  @Test
+  void shouldMarkSlotsAcrossWordBoundary() {
+    slotGrid.mark(booking("2024-08-12T15:30:00", "2024-08-12T16:20:00"));
+
+    long[] slots = slotGrid.getSlots("Room A", LocalDate.parse("2024-08-12"));
+
+    assertThat(slots[0]).isEqualTo(0b11L << 62);
+    assertThat(slots[1]).isEqualTo(0b11L);
+  }
+
+  @Test
+  void shouldMarkBookingSpanningMidnightOnBothDays() {
+    slotGrid.mark(booking("2024-08-12T23:50:00", "2024-08-13T00:10:00"));
+
+    assertThat(slotGrid.getSlots("Room A", LocalDate.parse("2024-08-12"))[1]).isEqualTo(1L << 31);
+    assertThat(slotGrid.getSlots("Room A", LocalDate.parse("2024-08-13"))[0]).isEqualTo(1L);
+  }
+
+  @Test
+  void shouldOnlyReportWindowsWithoutMarkedSlotsAsFree() {
+    slotGrid.mark(booking("2024-08-12T10:05:00", "2024-08-12T11:00:00"));
+
+    assertThat(slotGrid.isFree("Room A", LocalDateTime.parse("2024-08-12T08:00:00"), LocalDateTime.parse("2024-08-12T09:59:00"))).isTrue();
+    assertThat(slotGrid.isFree("Room A", LocalDateTime.parse("2024-08-12T08:00:00"), LocalDateTime.parse("2024-08-12T10:00:00"))).isFalse();
+    assertThat(slotGrid.isFree("Room A", LocalDateTime.parse("2024-08-12T11:10:00"), LocalDateTime.parse("2024-08-12T12:00:00"))).isFalse();
+    assertThat(slotGrid.isFree("Room A", LocalDateTime.parse("2024-08-12T11:15:00"), LocalDateTime.parse("2024-08-12T12:00:00"))).isTrue();
+    assertThat(slotGrid.isFree("Room B", LocalDateTime.parse("2024-08-12T10:00:00"), LocalDateTime.parse("2024-08-12T11:00:00"))).isTrue();
+  }
+
+  @Test
+  void shouldRejectSlotLengthNotDividingDay() {
+    assertThatThrownBy(() -> new ConferenceRoomSlotGrid(7))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Slot length must divide a day evenly");
+  }
+
+  private static ConferenceRoomBooking booking(String from, String to) {
+    return ConferenceRoomBooking.builder()
+        .fromTimestamp(LocalDateTime.parse(from))
+        .toTimestamp(LocalDateTime.parse(to))
+        .conferenceRoom("Room A")
+        .build();
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.conferenceroombooking.core.service;
+
+import com.example.conferenceroombooking.core.domain.MaintenanceWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaintenanceScheduleTest {
+
+  private static final MaintenanceWindow MORNING = new MaintenanceWindow(LocalTime.of(9, 0), LocalTime.of(9, 15));
+  private static final MaintenanceWindow FRIDAY_EVENING =
+      new MaintenanceWindow(LocalTime.of(17, 0), LocalTime.MIDNIGHT, Set.of(DayOfWeek.FRIDAY), Set.of());
+  private static final MaintenanceWindow ROOM_A_LUNCH =
+      new MaintenanceWindow(LocalTime.of(12, 0), LocalTime.of(13, 0), Set.of(), Set.of("Room A"));
+
+  private final MaintenanceSchedule schedule = MaintenanceSchedule.compile(List.of(MORNING, FRIDAY_EVENING, ROOM_A_LUNCH));
+
+  @Test
+  void shouldBlockOverlapButNotTouch() {
+    assertThat(schedule.isBlocked(at("2024-08-12T08:45"), at("2024-08-12T09:00"))).isFalse();
+    assertThat(schedule.isBlocked(at("2024-08-12T09:15"), at("2024-08-12T09:30"))).isFalse();
+    assertThat(schedule.isBlocked(at("2024-08-12T08:45"), at("2024-08-12T09:01"))).isTrue();
+    assertThat(schedule.isBlocked(at("2024-08-12T09:14"), at("2024-08-12T09:30"))).isTrue();
+    assertThat(schedule.isBlocked(at("2024-08-12T08:00"), at("2024-08-12T10:00"))).isTrue();
+    assertThat(schedule.isBlocked(at("2024-08-12T08:59:30"), at("2024-08-12T09:00:30"))).isTrue();
+  }
+
+  @Test
+  void shouldOnlyBlockConfiguredDays() {
+    assertThat(schedule.isBlocked(at("2024-08-15T18:00"), at("2024-08-15T19:00"))).isFalse();
+    assertThat(schedule.isBlocked(at("2024-08-16T18:00"), at("2024-08-16T19:00"))).isTrue();
+    assertThat(schedule.isBlocked(at("2024-08-16T16:00"), at("2024-08-16T17:00"))).isFalse();
+  }
+
+  @Test
+  void shouldOnlyBlockConfiguredConferenceRooms() {
+    assertThat(schedule.hasConferenceRoomWindows()).isTrue();
+    assertThat(schedule.isBlocked(at("2024-08-12T12:30"), at("2024-08-12T12:45"))).isFalse();
+    assertThat(schedule.isBlocked("Room A", at("2024-08-12T12:30"), at("2024-08-12T12:45"))).isTrue();
+    assertThat(schedule.isBlocked("Room B", at("2024-08-12T12:30"), at("2024-08-12T12:45"))).isFalse();
+    assertThat(schedule.isBlocked("Room B", at("2024-08-12T09:00"), at("2024-08-12T09:05"))).isTrue();
+  }
+
+  @Test
+  void shouldFindBlockingWindow() {
+    assertThat(schedule.findBlockingWindow(at("2024-08-16T08:00"), at("2024-08-16T09:05"))).contains(MORNING);
+    assertThat(schedule.findBlockingWindow(at("2024-08-16T17:30"), at("2024-08-16T18:00"))).contains(FRIDAY_EVENING);
+    assertThat(schedule.findBlockingWindow(at("2024-08-16T12:00"), at("2024-08-16T13:00"))).isEmpty();
+  }
+
+  @Test
+  void shouldRejectInvalidWindows() {
+    assertThatThrownBy(() -> new MaintenanceWindow(LocalTime.of(10, 0), LocalTime.of(9, 0)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new MaintenanceWindow(LocalTime.of(10, 0), LocalTime.of(10, 30, 30)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static LocalDateTime at(String timestamp) {
+    return LocalDateTime.parse(timestamp);
+  }
+}
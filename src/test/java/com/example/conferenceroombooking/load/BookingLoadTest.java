@@ -0,0 +1,90 @@
+package com.example.conferenceroombooking.load;
+
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomRepository;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.service.BookingServiceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Steps up the number of concurrent clients against the booking endpoints to find where latency collapses, and checks
+ * after every step that no two stored bookings of the same room overlap. Run with {@code mvn -Pload-test test}; tune
+ * with {@code -Dload.concurrency-steps=50,200,1000}, {@code -Dload.seconds}, {@code -Dload.rooms} and
+ * {@code -Dload.mix=availability=40,bookings=20,book=40}.
+ */
+@Tag("load")
+class BookingLoadTest {
+
+  private static final int[] CONCURRENCY_STEPS = Arrays.stream(System.getProperty("load.concurrency-steps", "50,200,1000").split(","))
+      .mapToInt(step -> Integer.parseInt(step.trim()))
+      .toArray();
+  private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 5));
+  private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.seconds", 20));
+  private static final int ROOMS = Integer.getInteger("load.rooms", 200);
+  private static final RequestMix REQUEST_MIX = RequestMix.parse(System.getProperty("load.mix", "availability=40,bookings=20,book=40"));
+
+  @Test
+  void shouldNeverDoubleBookUnderConcurrentLoad() throws Exception {
+    List<LoadReport> reports = new ArrayList<>();
+    for (int concurrency : CONCURRENCY_STEPS) {
+      try (LoadTestApplication application = LoadTestApplication.start("booking-load-" + concurrency,
+          "spring.threads.virtual.enabled=" + Boolean.getBoolean("load.virtual-threads"))) {
+        addConferenceRooms(application);
+
+        LoadReport report = new LoadGenerator().run(concurrency + " clients", concurrency, WARMUP, DURATION,
+            REQUEST_MIX.requests(application.baseUrl(), LocalDate.now()));
+        System.out.println(report.format());
+        System.out.printf("  %.0f bookings/s%n", report.throughput("POST /api/conference-room/book", 201));
+        reports.add(report);
+
+        assertThat(overlappingBookings(application.context().getBean(ConferenceRoomBookingRepository.class))).isEmpty();
+      }
+    }
+    assertThat(reports).allSatisfy(report -> assertThat(report.failures()).isZero());
+  }
+
+  private static void addConferenceRooms(LoadTestApplication application) {
+    application.context().getBean(ConferenceRoomRepository.class).saveAll(IntStream.range(0, ROOMS)
+        .mapToObj(i -> ConferenceRoom.builder().name("Load " + i).maxCapacity(2 + i % 20).build())
+        .toList());
+    application.context().getBean(BookingServiceImpl.class).loadConferenceRoomsAndBookings();
+  }
+
+  /**
+   * Pairs of stored bookings of the same room whose closed intervals intersect.
+   */
+  static List<String> overlappingBookings(ConferenceRoomBookingRepository conferenceRoomBookingRepository) {
+    Map<String, List<ConferenceRoomBooking>> bookingsByConferenceRoom = StreamSupport
+        .stream(conferenceRoomBookingRepository.findAll().spliterator(), false)
+        .collect(Collectors.groupingBy(ConferenceRoomBooking::getConferenceRoom));
+    List<String> overlapping = new ArrayList<>();
+    bookingsByConferenceRoom.values().forEach(conferenceRoomBookings -> {
+      conferenceRoomBookings.sort(Comparator.comparing(ConferenceRoomBooking::getFromTimestamp));
+      ConferenceRoomBooking latestEnding = null;
+      for (ConferenceRoomBooking conferenceRoomBooking : conferenceRoomBookings) {
+        if (latestEnding != null && !conferenceRoomBooking.getFromTimestamp().isAfter(latestEnding.getToTimestamp())) {
+          overlapping.add(latestEnding + " overlaps " + conferenceRoomBooking);
+        }
+        if (latestEnding == null || conferenceRoomBooking.getToTimestamp().isAfter(latestEnding.getToTimestamp())) {
+          latestEnding = conferenceRoomBooking;
+        }
+      }
+    });
+    return overlapping;
+  }
+}
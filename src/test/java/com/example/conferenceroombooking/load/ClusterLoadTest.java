@@ -0,0 +1,82 @@
+package com.example.conferenceroombooking.load;
+
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomRepository;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.service.BookingServiceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs one and then two instances of the application in cluster mode against a shared database, spreading the
+ * clients' requests over the instances, and checks that no two stored bookings of the same room overlap. Run with
+ * {@code mvn -Pload-test test}; tune with {@code -Dload.concurrency}, {@code -Dload.seconds} and {@code -Dload.rooms}.
+ */
+@Tag("load")
+class ClusterLoadTest {
+
+  private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+  private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 5));
+  private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.seconds", 20));
+  private static final int ROOMS = Integer.getInteger("load.rooms", 200);
+  private static final RequestMix REQUEST_MIX = RequestMix.parse(System.getProperty("load.mix", "availability=40,bookings=20,book=40"));
+
+  @TempDir
+  Path database;
+
+  @Test
+  void shouldNeverDoubleBookAcrossInstances() throws Exception {
+    LoadReport oneInstance = runLoad(1);
+    LoadReport twoInstances = runLoad(2);
+
+    System.out.println(oneInstance.format());
+    System.out.printf("  %.0f bookings/s%n", oneInstance.throughput("POST /api/conference-room/book", 201));
+    System.out.println(twoInstances.format());
+    System.out.printf("  %.0f bookings/s%n", twoInstances.throughput("POST /api/conference-room/book", 201));
+    assertThat(oneInstance.failures()).isZero();
+    assertThat(twoInstances.failures()).isZero();
+  }
+
+  private LoadReport runLoad(int instances) throws Exception {
+    String url = "jdbc:h2:file:" + database.resolve("cluster-" + instances).toAbsolutePath();
+    List<LoadTestApplication> applications = new ArrayList<>();
+    try {
+      for (int i = 0; i < instances; i++) {
+        applications.add(LoadTestApplication.startWithDataSource(url, "booking.persistence.cluster=true"));
+      }
+      applications.get(0).context().getBean(ConferenceRoomRepository.class).saveAll(IntStream.range(0, ROOMS)
+          .mapToObj(i -> ConferenceRoom.builder().name("Load " + i).maxCapacity(2 + i % 20).build())
+          .toList());
+      applications.forEach(application -> application.context().getBean(BookingServiceImpl.class).loadConferenceRoomsAndBookings());
+
+      LoadReport report = new LoadGenerator().run(instances + " instances", CONCURRENCY, WARMUP, DURATION,
+          roundRobin(applications.stream()
+              .map(application -> REQUEST_MIX.requests(application.baseUrl(), LocalDate.now()))
+              .toList()));
+
+      assertThat(BookingLoadTest.overlappingBookings(applications.get(0).context().getBean(ConferenceRoomBookingRepository.class)))
+          .isEmpty();
+      return report;
+    } finally {
+      applications.forEach(LoadTestApplication::close);
+    }
+  }
+
+  private static Supplier<HttpRequest> roundRobin(List<Supplier<HttpRequest>> requests) {
+    AtomicInteger next = new AtomicInteger();
+    return () -> requests.get(Math.floorMod(next.getAndIncrement(), requests.size())).get();
+  }
+}
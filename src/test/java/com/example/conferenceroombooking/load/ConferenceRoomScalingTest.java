@@ -0,0 +1,97 @@
+package com.example.conferenceroombooking.load;
+
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomBookingRepository;
+import com.example.conferenceroombooking.adapters.outgoing.ConferenceRoomRepository;
+import com.example.conferenceroombooking.core.domain.ConferenceRoom;
+import com.example.conferenceroombooking.core.domain.ConferenceRoomBooking;
+import com.example.conferenceroombooking.core.service.BookingServiceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imports a campus sized catalog through the CSV upload, books part of it for one window and checks that the booking
+ * index and the anti-join query agree on the rooms still free, printing the time taken by the import and per query.
+ * Run with {@code mvn -Pload-test test}; tune with {@code -Dload.catalog-rooms} and {@code -Dload.conflicts}.
+ */
+@Tag("load")
+class ConferenceRoomScalingTest {
+
+  private static final int ROOMS = Integer.getInteger("load.catalog-rooms", 50_000);
+  private static final int CONFLICTS = Integer.getInteger("load.conflicts", 5_000);
+  private static final int QUERIES = 20;
+
+  @Test
+  void shouldImportAndQueryCampusSizedCatalog() throws Exception {
+    try (LoadTestApplication application = LoadTestApplication.start("room-scaling")) {
+      ConferenceRoomRepository conferenceRoomRepository = application.context().getBean(ConferenceRoomRepository.class);
+      BookingServiceImpl bookingService = application.context().getBean(BookingServiceImpl.class);
+      long seeded = conferenceRoomRepository.count();
+
+      long importStart = System.nanoTime();
+      HttpResponse<String> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder()
+              .uri(URI.create("http://localhost:%d/api/admin/conference-rooms".formatted(application.port())))
+              .header("Content-Type", "text/csv")
+              .POST(HttpRequest.BodyPublishers.ofString(IntStream.range(0, ROOMS)
+                  .mapToObj(i -> "Campus %d,%d".formatted(i, 2 + i % 40))
+                  .collect(Collectors.joining("\n", "name,maxCapacity\n", "\n"))))
+              .build(),
+          HttpResponse.BodyHandlers.ofString());
+      Duration importTime = Duration.ofNanos(System.nanoTime() - importStart);
+      assertThat(response.statusCode()).isEqualTo(200);
+      assertThat(response.body()).contains("\"imported\":" + ROOMS);
+
+      LocalDateTime from = LocalDate.now().atTime(10, 0);
+      LocalDateTime to = from.plusHours(1);
+      List<ConferenceRoom> booked = StreamSupport.stream(conferenceRoomRepository.findAll().spliterator(), false)
+          .limit(CONFLICTS)
+          .toList();
+      application.context().getBean(ConferenceRoomBookingRepository.class).saveAll(booked.stream()
+          .map(conferenceRoom -> ConferenceRoomBooking.builder()
+              .fromTimestamp(from)
+              .toTimestamp(to)
+              .numberOfParticipants(1)
+              .conferenceRoomId(conferenceRoom.getId())
+              .conferenceRoom(conferenceRoom.getName())
+              .build())
+          .toList());
+      bookingService.loadConferenceRoomsAndBookings();
+
+      List<String> fromIndex = names(timed("booking index", () -> bookingService.getAvailableConferenceRooms(from, to)));
+      List<String> fromAntiJoin = names(timed("anti-join", () -> conferenceRoomRepository.findAvailableConferenceRooms(from, to, 1)));
+
+      System.out.printf("imported %d rooms in %d ms%n", ROOMS, importTime.toMillis());
+      assertThat(fromIndex).hasSize((int) (seeded + ROOMS - CONFLICTS));
+      assertThat(fromAntiJoin).containsExactlyInAnyOrderElementsOf(fromIndex);
+    }
+  }
+
+  private static <T> T timed(String name, Supplier<T> query) {
+    T result = query.get();
+    long start = System.nanoTime();
+    for (int i = 0; i < QUERIES; i++) {
+      result = query.get();
+    }
+    System.out.printf("%s: %.2f ms per query for %d rooms and %d conflicts%n",
+        name, (System.nanoTime() - start) / 1_000_000d / QUERIES, ROOMS, CONFLICTS);
+    return result;
+  }
+
+  private static List<String> names(List<ConferenceRoom> conferenceRooms) {
+    return conferenceRooms.stream().map(ConferenceRoom::getName).toList();
+  }
+}
@@ -0,0 +1,101 @@
+package com.example.conferenceroombooking.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Drives a fixed number of closed-loop clients, each on its own virtual thread, against a running application and
+ * records the latency and status of every request that started after the warm-up, per endpoint.
+ */
+final class LoadGenerator {
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(10))
+      .build();
+
+  LoadReport run(String name, int concurrency, Duration warmup, Duration duration, Supplier<HttpRequest> requests) throws Exception {
+    long measureFrom = System.nanoTime() + warmup.toNanos();
+    long measureUntil = measureFrom + duration.toNanos();
+    List<Future<Map<String, Recorder>>> futures = new ArrayList<>(concurrency);
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(clients.submit(() -> runClient(requests, measureFrom, measureUntil)));
+      }
+    }
+
+    Map<String, Recorder> recorders = new TreeMap<>();
+    for (Future<Map<String, Recorder>> future : futures) {
+      future.get().forEach((endpoint, recorder) -> recorders.merge(endpoint, recorder, Recorder::merge));
+    }
+    Map<String, LoadReport.EndpointReport> endpoints = new TreeMap<>();
+    recorders.forEach((endpoint, recorder) -> endpoints.put(endpoint, recorder.report()));
+    return new LoadReport(name, duration, endpoints);
+  }
+
+  private Map<String, Recorder> runClient(Supplier<HttpRequest> requests, long measureFrom, long measureUntil) {
+    Map<String, Recorder> recorders = new HashMap<>();
+    while (true) {
+      long start = System.nanoTime();
+      if (start >= measureUntil) {
+        break;
+      }
+      HttpRequest request = requests.get();
+      int status;
+      try {
+        status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      } catch (IOException e) {
+        status = -1;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (start >= measureFrom) {
+        recorders.computeIfAbsent(request.method() + " " + request.uri().getPath(), endpoint -> new Recorder())
+            .record(System.nanoTime() - start, status);
+      }
+    }
+    return recorders;
+  }
+
+  private static final class Recorder {
+
+    private long[] latencyNanos = new long[1024];
+    private int count;
+    private final Map<Integer, Long> responsesByStatus = new TreeMap<>();
+
+    void record(long latency, int status) {
+      if (count == latencyNanos.length) {
+        latencyNanos = Arrays.copyOf(latencyNanos, count * 2);
+      }
+      latencyNanos[count++] = latency;
+      responsesByStatus.merge(status, 1L, Long::sum);
+    }
+
+    Recorder merge(Recorder other) {
+      latencyNanos = Arrays.copyOf(latencyNanos, Math.max(latencyNanos.length, count + other.count));
+      System.arraycopy(other.latencyNanos, 0, latencyNanos, count, other.count);
+      count += other.count;
+      other.responsesByStatus.forEach((status, responses) -> responsesByStatus.merge(status, responses, Long::sum));
+      return this;
+    }
+
+    LoadReport.EndpointReport report() {
+      long[] sorted = Arrays.copyOf(latencyNanos, count);
+      Arrays.sort(sorted);
+      return new LoadReport.EndpointReport(sorted, responsesByStatus);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.example.conferenceroombooking.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of a {@link LoadGenerator} run, broken down by endpoint.
+ */
+record LoadReport(String name, Duration elapsed, Map<String, EndpointReport> endpoints) {
+
+  long requests() {
+    return endpoints.values().stream().mapToLong(EndpointReport::requests).sum();
+  }
+
+  long failures() {
+    return endpoints.values().stream().mapToLong(EndpointReport::failures).sum();
+  }
+
+  double throughput() {
+    return perSecond(requests());
+  }
+
+  double throughput(String endpoint, int status) {
+    EndpointReport endpointReport = endpoints.get(endpoint);
+    return endpointReport == null ? 0 : perSecond(endpointReport.responsesByStatus().getOrDefault(status, 0L));
+  }
+
+  Duration percentile(double percentile) {
+    return percentile(endpoints.values().stream()
+        .map(EndpointReport::sortedLatencyNanos)
+        .reduce(new long[0], LoadReport::merge), percentile);
+  }
+
+  String format() {
+    StringBuilder formatted = new StringBuilder("%s: %d requests (%d failed) in %d ms, %.0f req/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms"
+        .formatted(name, requests(), failures(), elapsed.toMillis(), throughput(),
+            millis(percentile(50)), millis(percentile(99)), millis(percentile(100))));
+    endpoints.forEach((endpoint, endpointReport) -> formatted.append(
+        "%n  %s: %d requests, %.0f req/s, p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms, statuses %s".formatted(
+            endpoint, endpointReport.requests(), perSecond(endpointReport.requests()),
+            millis(endpointReport.percentile(50)), millis(endpointReport.percentile(99)),
+            millis(endpointReport.percentile(99.9)), millis(endpointReport.percentile(100)),
+            endpointReport.responsesByStatus())));
+    return formatted.toString();
+  }
+
+  private double perSecond(long count) {
+    return count / (elapsed.toNanos() / 1_000_000_000d);
+  }
+
+  record EndpointReport(long[] sortedLatencyNanos, Map<Integer, Long> responsesByStatus) {
+
+    long requests() {
+      return sortedLatencyNanos.length;
+    }
+
+    /**
+     * Responses with a server error status or none at all, as opposed to requests the service rightly refused or shed
+     * with a 503 as over capacity.
+     */
+    long failures() {
+      return responsesByStatus.entrySet().stream()
+          .filter(entry -> entry.getKey() < 0 || (entry.getKey() >= 500 && entry.getKey() != 503))
+          .collect(Collectors.summingLong(Map.Entry::getValue));
+    }
+
+    Duration percentile(double percentile) {
+      return LoadReport.percentile(sortedLatencyNanos, percentile);
+    }
+  }
+
+  private static Duration percentile(long[] sortedLatencyNanos, double percentile) {
+    if (sortedLatencyNanos.length == 0) {
+      return Duration.ZERO;
+    }
+    int index = (int) Math.ceil(percentile / 100 * sortedLatencyNanos.length) - 1;
+    return Duration.ofNanos(sortedLatencyNanos[Math.max(0, Math.min(index, sortedLatencyNanos.length - 1))]);
+  }
+
+  private static long[] merge(long[] left, long[] right) {
+    long[] merged = Arrays.copyOf(left, left.length + right.length);
+    System.arraycopy(right, 0, merged, left.length, right.length);
+    Arrays.sort(merged);
+    return merged;
+  }
+
+  private static double millis(Duration duration) {
+    return duration.toNanos() / 1_000_000d;
+  }
+}
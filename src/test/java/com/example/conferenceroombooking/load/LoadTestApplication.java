@@ -0,0 +1,39 @@
+package com.example.conferenceroombooking.load;
+
+import com.example.conferenceroombooking.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * The application started on a random port with its own in-memory database and the {@link LoadTestConfiguration}.
+ */
+record LoadTestApplication(ConfigurableApplicationContext context, int port) implements AutoCloseable {
+
+  static LoadTestApplication start(String database, String... properties) {
+    return startWithDataSource("jdbc:h2:mem:" + database, properties);
+  }
+
+  /**
+   * Started against the given database, which other applications may share.
+   */
+  static LoadTestApplication startWithDataSource(String url, String... properties) {
+    String[] args = Stream.concat(
+            Stream.of("--server.port=0", "--spring.datasource.url=" + url, "--spring.jpa.show-sql=false"),
+            Stream.of(properties).map(property -> "--" + property))
+        .toArray(String[]::new);
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class, LoadTestConfiguration.class).run(args);
+    return new LoadTestApplication(context, ((WebServerApplicationContext) context).getWebServer().getPort());
+  }
+
+  String baseUrl() {
+    return "http://localhost:%d/api/conference-room".formatted(port);
+  }
+
+  @Override
+  public void close() {
+    context.close();
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.conferenceroombooking.load;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Pins the clock to the start of the current day, so every window of the day can be requested regardless of when the
+ * load test runs.
+ */
+@TestConfiguration
+class LoadTestConfiguration {
+
+  @Bean
+  @Primary
+  Clock startOfDayClock() {
+    ZoneId zone = ZoneId.systemDefault();
+    return Clock.fixed(LocalDate.now(zone).atStartOfDay(zone).toInstant(), zone);
+  }
+}
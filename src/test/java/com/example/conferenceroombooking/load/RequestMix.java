@@ -0,0 +1,72 @@
+package com.example.conferenceroombooking.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Relative weights of the requests sent to the booking endpoints, e.g. {@code availability=20,bookings=70,book=10}.
+ * Every request asks for a random window of the given day that steers clear of the maintenance windows.
+ */
+record RequestMix(int availability, int bookings, int book) {
+
+  private static final List<LocalTime> MAINTENANCE_STARTS = List.of(LocalTime.of(9, 0), LocalTime.of(13, 0), LocalTime.of(17, 0));
+  private static final int MAINTENANCE_MINUTES = 15;
+
+  RequestMix {
+    if (availability < 0 || bookings < 0 || book < 0 || availability + bookings + book == 0) {
+      throw new IllegalArgumentException("Request mix weights must not be negative and add up to more than 0");
+    }
+  }
+
+  static RequestMix parse(String spec) {
+    Map<String, Integer> weights = new HashMap<>();
+    for (String weight : spec.split(",")) {
+      String[] parts = weight.split("=");
+      weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+    }
+    return new RequestMix(weights.getOrDefault("availability", 0), weights.getOrDefault("bookings", 0), weights.getOrDefault("book", 0));
+  }
+
+  Supplier<HttpRequest> requests(String baseUrl, LocalDate day) {
+    int total = availability + bookings + book;
+    return () -> {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int pick = random.nextInt(total);
+      if (pick < availability) {
+        LocalDateTime from = windowStart(day, 60);
+        return HttpRequest.newBuilder(URI.create("%s/availability?from=%s&to=%s".formatted(baseUrl, from, from.plusMinutes(60)))).GET().build();
+      }
+      if (pick < availability + bookings) {
+        LocalDateTime from = windowStart(day, 60);
+        return HttpRequest.newBuilder(URI.create("%s/bookings?from=%s&to=%s".formatted(baseUrl, from, from.plusMinutes(60)))).GET().build();
+      }
+      int minutes = 1 + random.nextInt(30);
+      LocalDateTime from = windowStart(day, minutes);
+      String body = """
+          {"from": "%s", "to": "%s", "numberOfParticipants": %d}""".formatted(from, from.plusMinutes(minutes), 1 + random.nextInt(20));
+      return HttpRequest.newBuilder(URI.create(baseUrl + "/book"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(body))
+          .build();
+    };
+  }
+
+  private static LocalDateTime windowStart(LocalDate day, int minutes) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    while (true) {
+      LocalTime from = LocalTime.ofSecondOfDay(random.nextInt(24 * 60 * 60 - minutes * 60));
+      LocalTime to = from.plusMinutes(minutes);
+      if (MAINTENANCE_STARTS.stream().noneMatch(start -> to.isAfter(start) && from.isBefore(start.plusMinutes(MAINTENANCE_MINUTES)))) {
+        return day.atTime(from);
+      }
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.conferenceroombooking.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput and tail latency of the platform thread pool with virtual threads under a few thousand closed-loop
+ * clients. Run with {@code mvn -Pload-test test}; concurrency and duration can be tuned with {@code -Dload.concurrency}
+ * and {@code -Dload.seconds}.
+ */
+@Tag("load")
+class VirtualThreadLoadComparisonTest {
+
+  private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 2000);
+  private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 5));
+  private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.seconds", 20));
+  private static final RequestMix REQUEST_MIX = RequestMix.parse(System.getProperty("load.mix", "availability=20,bookings=70,book=10"));
+
+  @Test
+  void shouldServeLoadWithPlatformAndVirtualThreads() throws Exception {
+    LoadReport platformThreads = runLoad(false);
+    LoadReport virtualThreads = runLoad(true);
+
+    System.out.println(platformThreads.format());
+    System.out.println(virtualThreads.format());
+    assertThat(platformThreads.requests()).isPositive();
+    assertThat(virtualThreads.requests()).isPositive();
+    assertThat(virtualThreads.failures()).isZero();
+  }
+
+  private static LoadReport runLoad(boolean virtualThreads) throws Exception {
+    String mode = virtualThreads ? "virtual" : "platform";
+    try (LoadTestApplication application = LoadTestApplication.start("load-" + mode, "spring.threads.virtual.enabled=" + virtualThreads)) {
+      return new LoadGenerator().run(mode + " threads", CONCURRENCY, WARMUP, DURATION,
+          REQUEST_MIX.requests(application.baseUrl(), LocalDate.now()));
+    }
+  }
+}